@@ -30,6 +30,7 @@ public class MetricRegistry {
     public final static String METRIC_WORKER_TIMEOUT_COUNT = "worker.timeout.count";
     public final static String METRIC_WORKER_ENDED_COUNT = "worker.ended.count";
     public final static String METRIC_WORKER_ENDED_DURATION = "worker.ended.duration";
+    public final static String METRIC_WORKER_JOB_PENDING_COUNT = "worker.job.pending.count";
     public final static String METRIC_WORKER_TRIGGER_DURATION = "worker.trigger.duration";
     public final static String METRIC_WORKER_TRIGGER_RUNNING_COUNT = "worker.trigger.running.count";
     public final static String METRIC_WORKER_TRIGGER_STARTED_COUNT = "worker.trigger.started.count";
@@ -65,6 +66,10 @@ public class MetricRegistry {
 
     public final static String JDBC_QUERY_DURATION = "jdbc.query.duration";
 
+    public final static String QUEUE_ASYNC_DROPPED_COUNT = "queue.async.dropped.count";
+
+    public final static String CACHE_VARIABLES_TEMPLATE = "variables.template";
+
     public final static String TAG_TASK_TYPE = "task_type";
     public final static String TAG_TRIGGER_TYPE = "trigger_type";
     public final static String TAG_FLOW_ID = "flow_id";
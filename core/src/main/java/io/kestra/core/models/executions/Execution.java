@@ -26,13 +26,19 @@ import io.micronaut.core.annotation.Nullable;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.With;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,6 +102,12 @@ public class Execution implements DeletedInterface, TenantInterface {
     @With
     ExecutionMetadata metadata;
 
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final transient AtomicReference<TaskRunIndex> taskRunIndex = new AtomicReference<>();
+
     /**
      * Factory method for constructing a new {@link Execution} object for the given {@link Flow} and inputs.
      *
@@ -177,19 +189,14 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
     public Execution withTaskRun(TaskRun taskRun) throws InternalException {
-        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
-
-        boolean b = Collections.replaceAll(
-            newTaskRunList,
-            this.findTaskRunByTaskRunId(taskRun.getId()),
-            taskRun
-        );
+        TaskRunIndex index = this.taskRunIndex();
+        int position = this.findTaskRunPosition(index, taskRun.getId());
+        TaskRun current = this.taskRunList.get(position);
 
-        if (!b) {
-            throw new IllegalStateException("Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId() + "'");
-        }
+        ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
+        newTaskRunList.set(position, taskRun);
 
-        return new Execution(
+        Execution execution = new Execution(
             this.tenantId,
             this.id,
             this.namespace,
@@ -207,6 +214,13 @@ public class Execution implements DeletedInterface, TenantInterface {
             this.deleted,
             this.metadata
         );
+
+        // the index only stores positions, so it stays valid as long as the taskrun keeps its place in the tree
+        if (current.getTaskId().equals(taskRun.getTaskId()) && Objects.equals(current.getParentTaskRunId(), taskRun.getParentTaskRunId())) {
+            execution.taskRunIndex.set(index);
+        }
+
+        return execution;
     }
 
     public Execution childExecution(String childExecutionId, List<TaskRun> taskRunList, State state) {
@@ -235,29 +249,31 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
-        return this.taskRunList
+        return this.taskRunIndex()
+            .byTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id))
+            .map(this.taskRunList::get)
             .collect(Collectors.toList());
     }
 
     public TaskRun findTaskRunByTaskRunId(String id) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? Collections.<TaskRun>emptyList() : this.taskRunList)
-            .stream()
-            .filter(taskRun -> taskRun.getId().equals(id))
-            .findFirst();
+        return this.taskRunList.get(this.findTaskRunPosition(this.taskRunIndex(), id));
+    }
 
-        if (find.isEmpty()) {
+    private int findTaskRunPosition(TaskRunIndex index, String id) throws InternalException {
+        Integer position = this.taskRunList == null ? null : index.byId(id);
+
+        if (position == null) {
             throw new InternalException("Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' " + this.toStringState());
         }
 
-        return find.get();
+        return position;
     }
 
     public TaskRun findTaskRunByTaskIdAndValue(String id, List<String> values) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? Collections.<TaskRun>emptyList() : this.taskRunList)
+        Optional<TaskRun> find = this.findTaskRunsByTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id) && findParentsValues(taskRun, true).equals(values))
+            .filter(taskRun -> findParentsValues(taskRun, true).equals(values))
             .findFirst();
 
         if (find.isEmpty()) {
@@ -523,13 +539,10 @@ public class Execution implements DeletedInterface, TenantInterface {
             return true;
         }
 
-        TaskRun current = this.taskRunList
-            .stream()
-            .filter(r -> r.isSame(taskRun))
-            .findFirst()
-            .orElse(null);
+        Integer position = this.taskRunIndex().byId(taskRun.getId());
+        TaskRun current = position == null ? null : this.taskRunList.get(position);
 
-        if (current == null) {
+        if (current == null || !current.isSame(taskRun)) {
             return true;
         }
 
@@ -711,8 +724,53 @@ public class Execution implements DeletedInterface, TenantInterface {
         return result;
     }
 
+    /**
+     * Compute the outputs of a single task, the same way as {@link #outputs()} would for this task id,
+     * merging only the taskruns of this task.
+     *
+     * @param taskId the task id
+     * @return the outputs of the task, or null if none of its taskruns has outputs
+     */
+    public Object outputs(String taskId) {
+        if (this.taskRunList == null) {
+            return null;
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        for (TaskRun current : this.findTaskRunsByTaskId(taskId)) {
+            if (current.getOutputs() != null) {
+                result = MapUtils.merge(result, outputs(current));
+            }
+        }
+
+        return result.get(taskId);
+    }
+
+    /**
+     * @return the ids of the tasks having at least one taskrun with outputs, in taskrun order
+     */
+    public Set<String> outputsTaskIds() {
+        if (this.taskRunList == null) {
+            return Collections.emptySet();
+        }
+
+        return this.taskRunList
+            .stream()
+            .filter(taskRun -> taskRun.getOutputs() != null)
+            .map(TaskRun::getTaskId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private Map<String, Object> outputs(TaskRun taskRun) {
+        return this.outputs(taskRun, this.findParents(taskRun));
+    }
+
     private Map<String, Object> outputs(TaskRun taskRun, Map<String, TaskRun> byIds) {
-        List<TaskRun> parents = findParents(taskRun, byIds)
+        return this.outputs(taskRun, findParents(taskRun, byIds));
+    }
+
+    private Map<String, Object> outputs(TaskRun taskRun, List<TaskRun> allParents) {
+        List<TaskRun> parents = allParents
             .stream()
             .filter(r -> r.getValue() != null)
             .toList();
@@ -785,26 +843,11 @@ public class Execution implements DeletedInterface, TenantInterface {
             return Collections.emptyList();
         }
 
-        ArrayList<TaskRun> result = new ArrayList<>();
-        boolean ended = false;
-        while (!ended) {
-            final TaskRun finalTaskRun = taskRun;
-            Optional<TaskRun> find = this.taskRunList
-                .stream()
-                .filter(t -> t.getId().equals(finalTaskRun.getParentTaskRunId()))
-                .findFirst();
-
-            if (find.isPresent()) {
-                result.add(find.get());
-                taskRun = find.get();
-            } else {
-                ended = true;
-            }
-        }
-
-        Collections.reverse(result);
-
-        return result;
+        return this.taskRunIndex()
+            .parents(taskRun.getParentTaskRunId(), this.taskRunList)
+            .stream()
+            .map(this.taskRunList::get)
+            .collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -847,6 +890,93 @@ public class Execution implements DeletedInterface, TenantInterface {
     }
 
 
+    private TaskRunIndex taskRunIndex() {
+        TaskRunIndex index = this.taskRunIndex.get();
+
+        if (index == null) {
+            index = new TaskRunIndex(this.taskRunList == null ? Collections.emptyList() : this.taskRunList);
+            this.taskRunIndex.compareAndSet(null, index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Positions of the taskruns in {@link #taskRunList}, built on first lookup to avoid scanning the whole list on
+     * each call, which made the processing of executions with a lot of taskruns quadratic.
+     * The parent chains are computed lazily, keyed by parent taskrun id.
+     */
+    private static class TaskRunIndex {
+        private final Map<String, Integer> byId;
+        private final Map<String, List<Integer>> byTaskId;
+        private final Map<String, List<Integer>> parents = new ConcurrentHashMap<>();
+
+        private TaskRunIndex(List<TaskRun> taskRunList) {
+            this.byId = new HashMap<>(taskRunList.size() * 2);
+            this.byTaskId = new HashMap<>();
+
+            for (int i = 0; i < taskRunList.size(); i++) {
+                TaskRun taskRun = taskRunList.get(i);
+
+                this.byId.putIfAbsent(taskRun.getId(), i);
+                this.byTaskId.computeIfAbsent(taskRun.getTaskId(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        private Integer byId(String id) {
+            return this.byId.get(id);
+        }
+
+        private List<Integer> byTaskId(String taskId) {
+            return this.byTaskId.getOrDefault(taskId, Collections.emptyList());
+        }
+
+        /**
+         * @return the positions of the given taskrun and all its parents, starting from the deeper parent
+         */
+        private List<Integer> parents(String taskRunId, List<TaskRun> taskRunList) {
+            List<Integer> cached = this.parents.get(taskRunId);
+            if (cached != null) {
+                return cached;
+            }
+
+            // walk up until a cached chain or the root, then fill the cache on the way back
+            ArrayList<Integer> missing = new ArrayList<>();
+            Set<Integer> seen = new HashSet<>();
+            List<Integer> result = Collections.emptyList();
+            String current = taskRunId;
+
+            while (current != null) {
+                List<Integer> found = this.parents.get(current);
+                if (found != null) {
+                    result = found;
+                    break;
+                }
+
+                Integer position = this.byId.get(current);
+                if (position == null || !seen.add(position)) {
+                    break;
+                }
+
+                missing.add(position);
+                current = taskRunList.get(position).getParentTaskRunId();
+            }
+
+            for (int i = missing.size() - 1; i >= 0; i--) {
+                Integer position = missing.get(i);
+
+                ArrayList<Integer> chain = new ArrayList<>(result.size() + 1);
+                chain.addAll(result);
+                chain.add(position);
+
+                result = Collections.unmodifiableList(chain);
+                this.parents.put(taskRunList.get(position).getId(), result);
+            }
+
+            return result;
+        }
+    }
+
     public Execution toDeleted() {
         return this.toBuilder()
             .deleted(true)
@@ -19,6 +19,7 @@ import io.kestra.core.models.flows.State;
 import io.kestra.core.models.triggers.*;
 import io.kestra.core.runners.FlowInputOutput;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.schedulers.ScheduleTimelineCache;
 import io.kestra.core.services.ConditionService;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.core.validations.CronExpression;
@@ -513,35 +514,34 @@ public class Schedule extends AbstractTrigger implements PollingTriggerInterface
     }
 
     private Optional<ZonedDateTime> truePreviousNextDateWithCondition(ExecutionTime executionTime, ConditionContext conditionContext, ZonedDateTime toTestDate, boolean next) throws InternalException {
-        while (
-            (next && toTestDate.getYear() < ZonedDateTime.now().getYear() + 10) ||
-                (!next && toTestDate.getYear() > ZonedDateTime.now().getYear() - 10)
-        ) {
-            Optional<ZonedDateTime> currentDate = next ?
-                executionTime.nextExecution(toTestDate) :
-                executionTime.lastExecution(toTestDate);
-
-            if (currentDate.isEmpty()) {
-                return currentDate;
+        // resolved once as the conditions can be evaluated on a lot of dates
+        ConditionService conditionService = conditionContext.getRunContext().getApplicationContext().getBean(ConditionService.class);
+        List<ScheduleCondition> scheduleConditions = this.conditions == null ? null : this.conditions.stream()
+            .filter(c -> c instanceof ScheduleCondition)
+            .map(c -> (ScheduleCondition) c)
+            .toList();
+
+        ScheduleTimeline.Validator validator = date -> {
+            if (scheduleConditions == null) {
+                return true;
             }
 
-            Optional<Output> currentOutput = this.scheduleDates(executionTime, currentDate.get());
+            Optional<Output> output = this.scheduleDates(executionTime, date);
 
-            if (currentOutput.isEmpty()) {
-                return Optional.empty();
-            }
+            return output.isPresent() && conditionService.isValid(scheduleConditions, this.conditionContext(conditionContext, output.get()));
+        };
 
-            ConditionContext currentConditionContext = this.conditionContext(conditionContext, currentOutput.get());
-
-            boolean conditionResults = this.validateScheduleCondition(currentConditionContext);
-            if (conditionResults) {
-                return currentDate;
-            }
-
-            toTestDate = currentDate.get();
-        }
+        // the trigger is created again on each evaluation, the scheduler keeps the timeline of the flow revision
+        Optional<ScheduleTimelineCache> timelineCache = conditionContext.getFlow() == null ?
+            Optional.empty() :
+            conditionContext.getRunContext().getApplicationContext().findBean(ScheduleTimelineCache.class);
+        ScheduleTimeline timeline = timelineCache
+            .map(cache -> cache.get(conditionContext.getFlow(), this))
+            .orElseGet(ScheduleTimeline::new);
 
-        return Optional.empty();
+        return next ?
+            timeline.next(executionTime, toTestDate, validator) :
+            timeline.previous(executionTime, toTestDate, validator);
     }
 
     private Output handleMaxDelay(Output output) {
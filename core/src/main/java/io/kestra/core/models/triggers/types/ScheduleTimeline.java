@@ -0,0 +1,175 @@
+package io.kestra.core.models.triggers.types;
+
+import com.cronutils.model.time.ExecutionTime;
+import io.kestra.core.exceptions.InternalException;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * The timeline of the valid occurrences of a cron, for the occurrences where the schedule conditions were evaluated.
+ * It keeps a single contiguous range of evaluated occurrences with the valid ones, so looking for the next or previous
+ * valid occurrence only evaluates the conditions of the occurrences outside the range.
+ * The range is extended as the lookups go forward or backward, and restarted when a lookup is outside it.
+ * The valid occurrences before the last lookup are dropped, except the one just before it, as the lookups go forward
+ * with the schedule.
+ * Conditions are expected to depend only on the schedule dates, the scheduler keeps a timeline by flow revision so it's
+ * discarded when the flow is updated.
+ */
+public final class ScheduleTimeline {
+    private static final int MAX_VALID = 1000;
+    private static final int MAX_YEARS = 10;
+
+    private final TreeMap<Instant, ZonedDateTime> valid = new TreeMap<>();
+    private ZoneId zone;
+    // all the occurrences between from and to, inclusive, were evaluated; the range is empty when from is after to
+    private Instant from;
+    private Instant to;
+
+    /**
+     * @return the first valid occurrence strictly after the date
+     */
+    synchronized Optional<ZonedDateTime> next(ExecutionTime executionTime, ZonedDateTime date, Validator validator) throws InternalException {
+        Optional<ZonedDateTime> next = this.findNext(executionTime, date, validator);
+        this.prune(date.toInstant());
+
+        return next;
+    }
+
+    private Optional<ZonedDateTime> findNext(ExecutionTime executionTime, ZonedDateTime date, Validator validator) throws InternalException {
+        Instant instant = date.toInstant();
+        int maxYear = ZonedDateTime.now().getYear() + MAX_YEARS;
+
+        ZonedDateTime cursor;
+        if (this.contains(date)) {
+            Map.Entry<Instant, ZonedDateTime> found = this.valid.higherEntry(instant);
+            if (found != null) {
+                return Optional.of(found.getValue().withZoneSameInstant(date.getZone()));
+            }
+
+            cursor = this.to.atZone(date.getZone());
+        } else {
+            this.reset(date.getZone(), instant.plusSeconds(1), instant);
+            cursor = date;
+        }
+
+        while (cursor.getYear() < maxYear) {
+            Optional<ZonedDateTime> occurrence = executionTime.nextExecution(cursor);
+            if (occurrence.isEmpty()) {
+                return Optional.empty();
+            }
+
+            cursor = occurrence.get();
+            boolean isValid = validator.test(cursor);
+
+            if (this.valid.size() >= MAX_VALID) {
+                this.reset(date.getZone(), cursor.toInstant(), cursor.toInstant());
+            } else {
+                this.to = cursor.toInstant();
+            }
+
+            if (isValid) {
+                this.valid.put(cursor.toInstant(), cursor);
+
+                if (cursor.toInstant().isAfter(instant)) {
+                    return Optional.of(cursor);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return the last valid occurrence strictly before the date
+     */
+    synchronized Optional<ZonedDateTime> previous(ExecutionTime executionTime, ZonedDateTime date, Validator validator) throws InternalException {
+        Instant instant = date.toInstant();
+        int minYear = ZonedDateTime.now().getYear() - MAX_YEARS;
+
+        ZonedDateTime cursor;
+        if (this.contains(date)) {
+            Map.Entry<Instant, ZonedDateTime> found = this.valid.lowerEntry(instant);
+            if (found != null) {
+                return Optional.of(found.getValue().withZoneSameInstant(date.getZone()));
+            }
+
+            cursor = this.from.atZone(date.getZone());
+        } else {
+            this.reset(date.getZone(), instant, instant.minusSeconds(1));
+            cursor = date;
+        }
+
+        while (cursor.getYear() > minYear) {
+            Optional<ZonedDateTime> occurrence = executionTime.lastExecution(cursor);
+            if (occurrence.isEmpty()) {
+                return Optional.empty();
+            }
+
+            cursor = occurrence.get();
+            boolean isValid = validator.test(cursor);
+
+            if (this.valid.size() >= MAX_VALID) {
+                this.reset(date.getZone(), cursor.toInstant(), cursor.toInstant());
+            } else {
+                this.from = cursor.toInstant();
+            }
+
+            if (isValid) {
+                this.valid.put(cursor.toInstant(), cursor);
+
+                if (cursor.toInstant().isBefore(instant)) {
+                    return Optional.of(cursor);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * The occurrences around the date are known if the date is within the range or right at its bounds. Occurrences
+     * are computed in the zone of the date, so another zone can give other occurrences.
+     */
+    private boolean contains(ZonedDateTime date) {
+        if (this.from == null || !date.getZone().equals(this.zone) || this.from.isAfter(this.to)) {
+            return false;
+        }
+
+        Instant instant = date.toInstant();
+
+        return !instant.plusSeconds(1).isBefore(this.from) && !instant.minusSeconds(1).isAfter(this.to);
+    }
+
+    /**
+     * Drop the valid occurrences before the last valid one before the date, the range now starts at this one.
+     */
+    private void prune(Instant instant) {
+        Instant last = this.valid.lowerKey(instant);
+
+        if (last != null && last.isAfter(this.from)) {
+            this.valid.headMap(last).clear();
+            this.from = last;
+        }
+    }
+
+    int size() {
+        return this.valid.size();
+    }
+
+    private void reset(ZoneId zone, Instant from, Instant to) {
+        this.valid.clear();
+        this.zone = zone;
+        this.from = from;
+        this.to = to;
+    }
+
+    @FunctionalInterface
+    interface Validator {
+        boolean test(ZonedDateTime date) throws InternalException;
+    }
+}
@@ -0,0 +1,291 @@
+package io.kestra.core.queues;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Emit messages asynchronously: the messages are added to a bounded buffer drained by a single thread that sends them
+ * in batches, as soon as a batch is full or when the flush interval is elapsed since the first message of the batch.
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the producer waits or the message is dropped.
+ * Producers that must know the message is sent use {@link #submit(Object)}, the messages are still sent in batches
+ * with the other ones but each one gets a future completed once its batch is sent.
+ */
+@Slf4j
+public class BatchingQueueEmitter<T> implements Closeable {
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+    private final Sender<T> sender;
+    private final BlockingQueue<Object> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final Predicate<T> droppable;
+    private final Consumer<T> onDropped;
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private volatile boolean closed = false;
+
+    @Builder
+    private BatchingQueueEmitter(
+        String name,
+        Sender<T> sender,
+        ExecutorService executorService,
+        int bufferSize,
+        int batchSize,
+        Duration flushInterval,
+        OverflowPolicy overflowPolicy,
+        Integer sampleRate,
+        Predicate<T> droppable,
+        Consumer<T> onDropped
+    ) {
+        this.name = name;
+        this.sender = sender;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy == null ? OverflowPolicy.BLOCK : overflowPolicy;
+        this.sampleRate = sampleRate == null ? 1 : Math.max(1, sampleRate);
+        this.droppable = droppable == null ? message -> false : droppable;
+        this.onDropped = onDropped == null ? message -> {} : onDropped;
+
+        executorService.execute(this::run);
+    }
+
+    /**
+     * Add a message to the buffer, applying the overflow policy if it's full.
+     * Once closed, or if the calling thread is interrupted while waiting, the message is sent synchronously.
+     */
+    public void emit(T message) throws QueueException {
+        if (this.closed) {
+            this.sender.send(Collections.singletonList(message));
+            return;
+        }
+
+        if (this.buffer.offer(message)) {
+            return;
+        }
+
+        boolean drop = switch (this.overflowPolicy) {
+            case BLOCK -> false;
+            case DROP_DEBUG -> this.droppable.test(message);
+            case SAMPLE -> this.overflowCount.getAndIncrement() % this.sampleRate != 0;
+        };
+
+        if (drop) {
+            this.onDropped.accept(message);
+            return;
+        }
+
+        try {
+            this.buffer.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.sender.send(Collections.singletonList(message));
+        }
+    }
+
+    /**
+     * Add a message to the buffer, waiting for room if it's full whatever the overflow policy.
+     * Once closed, or if the calling thread is interrupted while waiting, the message is sent synchronously.
+     *
+     * @return a future completed once the batch holding the message is sent, or exceptionally if the message can't be sent
+     */
+    public CompletableFuture<Void> submit(T message) {
+        Pending<T> pending = new Pending<>(message, new CompletableFuture<>());
+
+        if (!this.closed) {
+            try {
+                this.buffer.put(pending);
+
+                // added after the sending thread ended on close, it would never be sent
+                if (this.terminated.getCount() > 0 || !this.buffer.remove(pending)) {
+                    return pending.sent();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            this.sender.send(Collections.singletonList(message));
+            pending.sent().complete(null);
+        } catch (Throwable e) {
+            pending.sent().completeExceptionally(e);
+        }
+
+        return pending.sent();
+    }
+
+    /**
+     * Wait for all the messages emitted before this call to be sent.
+     */
+    public void flush(Duration timeout) {
+        if (this.closed) {
+            return;
+        }
+
+        Flush flush = new Flush(new CountDownLatch(1));
+
+        try {
+            if (this.buffer.offer(flush, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                if (!flush.latch().await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    log.warn("Timeout while waiting for the messages of '{}' to be sent", this.name);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+
+        try {
+            if (!this.terminated.await(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Timeout while sending the remaining {} messages of '{}'", this.buffer.size(), this.name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void run() {
+        List<T> batch = new ArrayList<>(this.batchSize);
+        // the future of each message of the batch, null for the emitted ones
+        List<CompletableFuture<Void>> futures = new ArrayList<>(this.batchSize);
+        long deadline = 0L;
+
+        try {
+            while (!this.closed || !this.buffer.isEmpty() || !batch.isEmpty()) {
+                long wait = batch.isEmpty() ? this.flushIntervalNanos : deadline - System.nanoTime();
+                Object item = wait > 0 ? this.buffer.poll(wait, TimeUnit.NANOSECONDS) : this.buffer.poll();
+
+                if (item == null) {
+                    if (!batch.isEmpty()) {
+                        this.send(batch, futures);
+                    }
+                } else if (item instanceof Flush flush) {
+                    this.send(batch, futures);
+                    flush.latch().countDown();
+                } else {
+                    if (batch.isEmpty()) {
+                        deadline = System.nanoTime() + this.flushIntervalNanos;
+                    }
+
+                    if (item instanceof Pending<?> pending) {
+                        batch.add((T) pending.message());
+                        futures.add(pending.sent());
+                    } else {
+                        batch.add((T) item);
+                        futures.add(null);
+                    }
+
+                    if (batch.size() >= this.batchSize) {
+                        this.send(batch, futures);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while sending the messages of '{}', {} messages are lost", this.name, this.buffer.size() + batch.size());
+
+            QueueException lost = new QueueException("The messages of '" + this.name + "' are lost", e);
+            futures.forEach(future -> complete(future, lost));
+            this.buffer.forEach(item -> {
+                if (item instanceof Pending<?> pending) {
+                    complete(pending.sent(), lost);
+                }
+            });
+        } finally {
+            this.terminated.countDown();
+        }
+    }
+
+    private void send(List<T> batch, List<CompletableFuture<Void>> futures) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.sender.send(new ArrayList<>(batch));
+            futures.forEach(future -> complete(future, null));
+        } catch (Throwable e) {
+            // a single message can fail the whole batch (ex: too large), so we send them one by one
+            log.warn("Unable to send a batch of {} messages of '{}', sending them one by one", batch.size(), this.name, e);
+
+            for (int i = 0; i < batch.size(); i++) {
+                T message = batch.get(i);
+
+                try {
+                    this.sender.send(Collections.singletonList(message));
+                    complete(futures.get(i), null);
+                } catch (Throwable ex) {
+                    log.error("Unable to send a message of '{}'", this.name, ex);
+                    this.onDropped.accept(message);
+                    complete(futures.get(i), ex);
+                }
+            }
+        }
+
+        batch.clear();
+        futures.clear();
+    }
+
+    private static void complete(CompletableFuture<Void> future, Throwable e) {
+        if (future == null) {
+            return;
+        }
+
+        if (e == null) {
+            future.complete(null);
+        } else {
+            future.completeExceptionally(e);
+        }
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Wait for room in the buffer.
+         */
+        BLOCK,
+        /**
+         * Drop the messages that are droppable (for example debug and trace logs), wait for the others.
+         */
+        DROP_DEBUG,
+        /**
+         * Keep one message out of the sample rate and drop the others.
+         */
+        SAMPLE
+    }
+
+    @FunctionalInterface
+    public interface Sender<T> {
+        void send(List<T> messages) throws QueueException;
+    }
+
+    private record Flush(CountDownLatch latch) {
+    }
+
+    private record Pending<T>(T message, CompletableFuture<Void> sent) {
+    }
+}
@@ -4,7 +4,9 @@ import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public interface QueueInterface<T> extends Closeable {
     default void emit(T message) throws QueueException {
@@ -19,6 +21,27 @@ public interface QueueInterface<T> extends Closeable {
 
     void emitAsync(String consumerGroup, T message) throws QueueException;
 
+    /**
+     * Wait for the messages emitted with {@link #emitAsync(String, Object)} to be sent.
+     * The default implementation does nothing, for implementations that send them synchronously.
+     */
+    default void flush() throws QueueException {
+    }
+
+    default void emitBatch(List<T> messages) throws QueueException {
+        emitBatch(null, messages);
+    }
+
+    /**
+     * Emit multiple messages at once, implementations should send them in a single round-trip when possible.
+     * The default implementation emits them one by one.
+     */
+    default void emitBatch(String consumerGroup, List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(consumerGroup, message);
+        }
+    }
+
     default void delete(T message) throws QueueException {
         delete(null, message);
     }
@@ -37,5 +60,14 @@ public interface QueueInterface<T> extends Closeable {
 
     Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<T, DeserializationException>> consumer);
 
+    /**
+     * Receive the messages by batches processed on {@code lanes} parallel lanes, the messages with the same key are
+     * always given in order to the same lane.
+     * The default implementation gives the messages one by one, in order, on a single lane.
+     */
+    default Runnable receiveLanes(String consumerGroup, Class<?> queueType, int lanes, Function<T, String> key, Consumer<List<Either<T, DeserializationException>>> consumer) {
+        return receive(consumerGroup, queueType, either -> consumer.accept(List.of(either)));
+    }
+
     void pause();
 }
@@ -6,10 +6,20 @@ import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 public interface WorkerJobQueueInterface extends Closeable {
     Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<WorkerJob, DeserializationException>> consumer);
 
+    /**
+     * Receive at most {@code maxJobs} jobs on each poll, so the worker only takes the jobs it can handle and leaves
+     * the others to the other workers.
+     * Implementations that can't limit the jobs they fetch receive all of them.
+     */
+    default Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier maxJobs, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return this.receive(consumerGroup, queueType, consumer);
+    }
+
     void pause();
 
 }
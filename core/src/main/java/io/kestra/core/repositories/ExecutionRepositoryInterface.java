@@ -64,6 +64,30 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         @Nullable ChildFilter childFilter
     );
 
+    /**
+     * Finds a page of the executions ordered by id, starting after the given id.
+     * Unlike offset pagination, the pages are stable when the previous executions are updated or deleted, so it can be
+     * used to iterate over a large number of executions by chunks.
+     *
+     * @param afterId the last id of the previous page, or null for the first page.
+     * @param size    the maximum number of executions to return.
+     * @return the executions, an empty list when there is no more.
+     */
+    List<Execution> findAfter(
+        @Nullable String afterId,
+        int size,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    );
+
     ArrayListTotal<TaskRun> findTaskRun(
         Pageable pageable,
         @Nullable String query,
@@ -80,6 +104,16 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
 
     Execution delete(Execution execution);
 
+    /**
+     * Deletes multiple executions at once, implementations should delete them in a single transaction when possible.
+     * The default implementation deletes them one by one.
+     *
+     * @return the deleted executions.
+     */
+    default List<Execution> delete(List<Execution> executions) {
+        return executions.stream().map(this::delete).toList();
+    }
+
     Integer purge(Execution execution);
 
     Integer maxTaskRunSetting();
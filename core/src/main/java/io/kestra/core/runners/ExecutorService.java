@@ -1,6 +1,9 @@
 package io.kestra.core.runners;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.*;
@@ -8,12 +11,16 @@ import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.*;
 import io.kestra.core.models.tasks.retrys.AbstractRetry;
+import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.services.ConditionService;
 import io.kestra.core.services.ExecutionService;
 import io.kestra.core.services.LogService;
+import io.kestra.core.tasks.flows.ForEachItem;
 import io.kestra.core.tasks.flows.Pause;
 import io.kestra.core.tasks.flows.WorkingDirectory;
+import io.kestra.core.utils.IdUtils;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +29,7 @@ import org.slf4j.event.Level;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -52,6 +60,14 @@ public class ExecutorService {
     @Inject
     private ExecutionService executionService;
 
+    @Value("${kestra.executor.worker-task.referenced-outputs-only:false}")
+    private boolean referencedOutputsOnly;
+
+    // keyed by flow revision and task id, as the references also come from the flow variables
+    private final Cache<String, Optional<Set<String>>> outputsReferences = CacheBuilder.newBuilder()
+        .maximumSize(10000)
+        .build();
+
     protected FlowExecutorInterface flowExecutorInterface() {
         // bean is injected late, so we need to wait
         if (this.flowExecutorInterface == null) {
@@ -658,6 +674,12 @@ public class ExecutorService {
             .map(throwFunction(taskRun -> {
                 Task task = executor.getFlow().findTaskByTaskId(taskRun.getTaskId());
                 RunContext runContext = runContextFactory.of(executor.getFlow(), task, executor.getExecution(), taskRun);
+                // the ForEachItem merge task reads the outputs of the ForEachItem from its code, not from an expression
+                if (this.referencedOutputsOnly && !(task instanceof ForEachItem.ForEachItemMergeOutputs)) {
+                    // only send the outputs the task may use, the outputs of the whole execution can be large
+                    this.outputsReferences(executor.getFlow(), task).ifPresent(runContext::withOutputsOf);
+                }
+
                 return WorkerTask.builder()
                     .runContext(runContext)
                     .taskRun(taskRun)
@@ -673,6 +695,18 @@ public class ExecutorService {
         return executor.withWorkerTasks(workerTasks, "handleWorkerTask");
     }
 
+    private Optional<Set<String>> outputsReferences(Flow flow, Task task) {
+        try {
+            return this.outputsReferences.get(IdUtils.fromParts(flow.uid(), task.getId()), () -> OutputsReferences.of(
+                JacksonMapper.toMap(task),
+                flow.getVariables()
+            ));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            log.warn("Unable to find the outputs referenced by task '{}', sending all outputs", task.getId(), e);
+            return Optional.empty();
+        }
+    }
+
     private Executor handleExecutableTask(final Executor executor) {
         List<SubflowExecution<?>> executions = new ArrayList<>();
         List<SubflowExecutionResult> subflowExecutionResults = new ArrayList<>();
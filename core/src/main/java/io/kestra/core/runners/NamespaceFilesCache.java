@@ -0,0 +1,213 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.utils.Hashing;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * A local cache of the namespace files, so the workers don't download all the namespace files for each task run.
+ * Cached files are keyed by their path and the size and modification time of the namespace file, so an updated
+ * namespace file is downloaded again. Files modified recently are not cached, as the modification time of some
+ * storages has a coarse precision and an update within the same tick would not be noticed.
+ * The least recently used files are removed when the cache is above its maximum size.
+ * In hard-link mode, the cached files are read-only as they are shared by all the tasks using them: a task must not
+ * modify them in place. A cached file modified anyway (ex: by a task running as root) is downloaded again by the next
+ * task, but the tasks already linked to it see the modification.
+ */
+@Singleton
+@Slf4j
+public class NamespaceFilesCache {
+    private static final Duration RECENTLY_MODIFIED = Duration.ofSeconds(10);
+
+    @Value("${kestra.tasks.namespace-files.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kestra.tasks.namespace-files.cache.max-size:1073741824}")
+    private long maxSize;
+
+    @Value("${kestra.tasks.namespace-files.cache.hard-link:false}")
+    private boolean hardLink;
+
+    @Value("${kestra.tasks.tmp-dir.path:}")
+    private String tmpDirPath;
+
+    private final Map<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize = 0L;
+    private Path directory;
+
+    /**
+     * Copy a namespace file to its destination, from the cache when possible.
+     *
+     * @param tenantId the tenant of the namespace file
+     * @param uri the storage uri of the namespace file
+     * @param attributes the attributes of the namespace file, as listed from the storage
+     * @param download open the namespace file from the storage
+     * @param destination where to copy the namespace file
+     */
+    public void copy(String tenantId, URI uri, FileAttributes attributes, Callable<InputStream> download, Path destination) throws Exception {
+        Optional<Path> cached = this.cached(tenantId, uri, attributes, download);
+
+        if (cached.isPresent()) {
+            try {
+                this.materialize(cached.get(), destination);
+                return;
+            } catch (NoSuchFileException e) {
+                // evicted in the meantime, we download it directly
+            }
+        }
+
+        try (InputStream inputStream = download.call()) {
+            Files.copy(inputStream, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Optional<Path> cached(String tenantId, URI uri, FileAttributes attributes, Callable<InputStream> download) throws Exception {
+        if (!this.enabled ||
+            attributes.getLastModifiedTime() <= 0 ||
+            attributes.getSize() > this.maxSize ||
+            System.currentTimeMillis() - attributes.getLastModifiedTime() < RECENTLY_MODIFIED.toMillis()
+        ) {
+            return Optional.empty();
+        }
+
+        String key = key(tenantId, uri, attributes);
+        Path path = this.directory().resolve(key);
+
+        synchronized (this) {
+            if (this.entries.containsKey(key)) {
+                if (this.isValid(path, attributes)) {
+                    return Optional.of(path);
+                }
+
+                // the cached file was modified (ex: through a hard link), we download it again
+                this.remove(key);
+            }
+        }
+
+        Path temp = Files.createTempFile(this.directory(), key, ".tmp");
+        try (InputStream inputStream = download.call()) {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(attributes.getLastModifiedTime()));
+            if (this.hardLink && !temp.toFile().setReadOnly()) {
+                log.debug("Unable to make the cached namespace file '{}' read-only", temp);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        synchronized (this) {
+            Long previous = this.entries.put(key, attributes.getSize());
+            this.totalSize += attributes.getSize() - (previous == null ? 0L : previous);
+            this.evict(key);
+        }
+
+        return Optional.of(path);
+    }
+
+    private void materialize(Path cached, Path destination) throws IOException {
+        if (this.hardLink) {
+            try {
+                Files.deleteIfExists(destination);
+                Files.createLink(destination, cached);
+                return;
+            } catch (NoSuchFileException e) {
+                throw e;
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug("Unable to link the namespace file '{}', copying it", destination, e);
+            }
+        }
+
+        // copied from a stream, not to keep the read-only permission of the cached file
+        try (InputStream inputStream = Files.newInputStream(cached)) {
+            Files.copy(inputStream, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private boolean isValid(Path path, FileAttributes attributes) {
+        try {
+            return Files.size(path) == attributes.getSize() &&
+                Files.getLastModifiedTime(path).toMillis() == attributes.getLastModifiedTime();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void evict(String current) {
+        Iterator<Map.Entry<String, Long>> iterator = this.entries.entrySet().iterator();
+
+        while (this.totalSize > this.maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> entry = iterator.next();
+
+            if (!entry.getKey().equals(current)) {
+                iterator.remove();
+                this.delete(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void remove(String key) {
+        Long size = this.entries.remove(key);
+
+        if (size != null) {
+            this.delete(key, size);
+        }
+    }
+
+    private void delete(String key, long size) {
+        this.totalSize -= size;
+
+        try {
+            Files.deleteIfExists(this.directory.resolve(key));
+        } catch (IOException e) {
+            log.warn("Unable to delete the cached namespace file '{}'", key, e);
+        }
+    }
+
+    private synchronized Path directory() throws IOException {
+        if (this.directory == null) {
+            Path base = Path.of(this.tmpDirPath == null || this.tmpDirPath.isEmpty() ? System.getProperty("java.io.tmpdir") : this.tmpDirPath);
+            Files.createDirectories(base);
+
+            // a new directory for each process, as the entries are not reloaded
+            this.directory = Files.createTempDirectory(base, "namespace-files-cache");
+        }
+
+        return this.directory;
+    }
+
+    private static String key(String tenantId, URI uri, FileAttributes attributes) {
+        String value = String.join("|",
+            tenantId == null ? "" : tenantId,
+            uri.toString(),
+            String.valueOf(attributes.getSize()),
+            String.valueOf(attributes.getLastModifiedTime())
+        );
+
+        return Hashing.encodeBytesToHex(Hashing.sha512Hash(value.getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (this.directory != null) {
+            FileUtils.deleteQuietly(this.directory.toFile());
+        }
+    }
+}
@@ -11,17 +11,16 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.file.*;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.*;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 @Singleton
 @Slf4j
@@ -29,16 +28,19 @@ public class NamespaceFilesService {
     @Inject
     private StorageInterface storageInterface;
 
+    @Inject
+    private NamespaceFilesCache namespaceFilesCache;
+
     public List<URI> inject(RunContext runContext, String tenantId, String namespace, Path basePath, NamespaceFiles namespaceFiles) throws Exception {
         if (!namespaceFiles.getEnabled()) {
             return Collections.emptyList();
         }
 
-        List<URI> list = new ArrayList<>();
-        list.addAll(recursiveList(tenantId, namespace, null));
-
+        Map<URI, FileAttributes> files = new LinkedHashMap<>();
+        recursiveList(tenantId, namespace, null, files);
 
-        list = list
+        List<URI> list = files
+            .keySet()
             .stream()
             .filter(throwPredicate(f -> {
                 var file = f.getPath();
@@ -63,7 +65,7 @@ public class NamespaceFilesService {
             }))
             .collect(Collectors.toList());
 
-        copy(tenantId, namespace, basePath, list);
+        copy(tenantId, namespace, basePath, list, files);
 
         return list;
     }
@@ -75,29 +77,26 @@ public class NamespaceFilesService {
         );
     }
 
-    private List<URI> recursiveList(String tenantId, String namespace, @Nullable URI path) throws IOException {
+    private void recursiveList(String tenantId, String namespace, @Nullable URI path, Map<URI, FileAttributes> result) throws IOException {
         URI uri = uri(namespace, path);
 
-        List<URI> result = new ArrayList<>();
         List<FileAttributes> list;
         try {
             list = storageInterface.list(tenantId, uri);
         } catch (FileNotFoundException e) {
             // prevent crashing upon trying to inject namespace files while the root namespace files folder doesn't exist
-            return result;
+            return;
         }
 
         for (var file: list) {
             URI current = URI.create((path != null ? path.getPath() : "") +  "/" + file.getFileName());
 
             if (file.getType() == FileAttributes.FileType.Directory) {
-                result.addAll(this.recursiveList(tenantId, namespace, current));
+                this.recursiveList(tenantId, namespace, current, result);
             } else {
-                result.add(current);
+                result.put(current, file);
             }
         }
-
-        return result;
     }
 
     private static boolean match(List<String> patterns, String file) {
@@ -110,7 +109,7 @@ public class NamespaceFilesService {
             );
     }
 
-    private void copy(String tenantId, String namespace, Path basePath, List<URI> files) throws IOException {
+    private void copy(String tenantId, String namespace, Path basePath, List<URI> files, Map<URI, FileAttributes> attributes) throws Exception {
         files
             .forEach(throwConsumer(f -> {
                 Path destination = Paths.get(basePath.toString(), f.getPath());
@@ -120,9 +119,14 @@ public class NamespaceFilesService {
                     destination.getParent().toFile().mkdirs();
                 }
 
-                try (InputStream inputStream = storageInterface.get(tenantId, uri(namespace, f))) {
-                    Files.copy(inputStream, destination, REPLACE_EXISTING);
-                }
+                URI uri = uri(namespace, f);
+                namespaceFilesCache.copy(
+                    tenantId,
+                    uri,
+                    attributes.get(f),
+                    () -> storageInterface.get(tenantId, uri),
+                    destination
+                );
             }));
     }
 }
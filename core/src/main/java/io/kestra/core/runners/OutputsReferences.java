@@ -0,0 +1,93 @@
+package io.kestra.core.runners;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Statically find the tasks whose outputs are referenced by Pebble expressions, so that only these outputs
+ * are sent to the worker.
+ * The analysis is conservative: as soon as an expression uses the outputs in a way that can't be resolved
+ * statically (dynamic key, the whole outputs map, the <code>render</code> function, ...), all outputs are needed.
+ */
+final class OutputsReferences {
+    private static final Pattern EXPRESSION = Pattern.compile("\\{\\{(.*?)}}|\\{%(.*?)%}", Pattern.DOTALL);
+    private static final Pattern OUTPUTS = Pattern.compile("(?<![\\w.])outputs(?!\\w)");
+    private static final Pattern ATTRIBUTE = Pattern.compile("\\s*\\.\\s*([a-zA-Z_]\\w*)");
+    private static final Pattern SUBSCRIPT = Pattern.compile("\\s*\\[\\s*(['\"])([^'\"]+)\\1\\s*]");
+    private static final Pattern RENDER = Pattern.compile("(?<![\\w.])render\\s*\\(");
+
+    private OutputsReferences() {
+        // utility class
+    }
+
+    /**
+     * Find the referenced task ids in all the strings contained in the given values, walking maps and collections.
+     *
+     * @return the referenced task ids, or an empty optional if all outputs may be needed
+     */
+    static Optional<Set<String>> of(Object... values) {
+        Set<String> taskIds = new HashSet<>();
+
+        for (Object value : values) {
+            if (!collect(value, taskIds)) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(taskIds);
+    }
+
+    private static boolean collect(Object value, Set<String> taskIds) {
+        if (value instanceof String string) {
+            return collect(string, taskIds);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!collect(entry.getKey(), taskIds) || !collect(entry.getValue(), taskIds)) {
+                    return false;
+                }
+            }
+        } else if (value instanceof Collection<?> collection) {
+            for (Object item : collection) {
+                if (!collect(item, taskIds)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean collect(String string, Set<String> taskIds) {
+        if (!string.contains("{")) {
+            return true;
+        }
+
+        Matcher expressions = EXPRESSION.matcher(string);
+        while (expressions.find()) {
+            String expression = expressions.group(1) != null ? expressions.group(1) : expressions.group(2);
+
+            if (RENDER.matcher(expression).find()) {
+                return false;
+            }
+
+            Matcher outputs = OUTPUTS.matcher(expression);
+            while (outputs.find()) {
+                Matcher attribute = ATTRIBUTE.matcher(expression).region(outputs.end(), expression.length());
+                Matcher subscript = SUBSCRIPT.matcher(expression).region(outputs.end(), expression.length());
+
+                if (attribute.lookingAt()) {
+                    taskIds.add(attribute.group(1));
+                } else if (subscript.lookingAt()) {
+                    taskIds.add(subscript.group(2));
+                } else {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+}
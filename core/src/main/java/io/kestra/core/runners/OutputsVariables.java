@@ -0,0 +1,121 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.executions.Execution;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * A read-only view of the outputs of an {@link Execution}, used as the <code>outputs</code> variable of a {@link RunContext}.
+ * The outputs of a task are only computed (and decrypted) the first time they are accessed, so the cost of a
+ * run context depends on the outputs that are referenced and not on the size of the execution.
+ * Iterating over the whole map will compute the outputs of all tasks.
+ */
+public class OutputsVariables extends AbstractMap<String, Object> {
+    private static final Object NONE = new Object();
+
+    private final Execution execution;
+    private final UnaryOperator<Object> decryptor;
+    private final Map<String, Object> overrides;
+    private final Map<String, Object> resolved = new ConcurrentHashMap<>();
+    private volatile Set<String> keys;
+
+    OutputsVariables(Execution execution, UnaryOperator<Object> decryptor) {
+        this(execution, decryptor, Collections.emptyMap());
+    }
+
+    private OutputsVariables(Execution execution, UnaryOperator<Object> decryptor, Map<String, Object> overrides) {
+        this.execution = execution;
+        this.decryptor = decryptor;
+        this.overrides = overrides;
+    }
+
+    /**
+     * Return a new view with the outputs of a task replaced, outputs already computed are not shared.
+     */
+    OutputsVariables with(String taskId, Object outputs) {
+        Map<String, Object> overrides = new HashMap<>(this.overrides);
+        overrides.put(taskId, outputs);
+
+        return new OutputsVariables(this.execution, this.decryptor, overrides);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String taskId)) {
+            return null;
+        }
+
+        if (this.overrides.containsKey(taskId)) {
+            return this.overrides.get(taskId);
+        }
+
+        Object value = this.resolved.computeIfAbsent(taskId, this::resolve);
+
+        return value == NONE ? null : value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.overrides.containsKey(key) || this.get(key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.keys().isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return this.keys().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<String> iterator = OutputsVariables.this.keys().iterator();
+
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        String key = iterator.next();
+                        return new SimpleImmutableEntry<>(key, OutputsVariables.this.get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return OutputsVariables.this.size();
+            }
+        };
+    }
+
+    private Set<String> keys() {
+        if (this.keys == null) {
+            Set<String> keys = new LinkedHashSet<>(this.execution.outputsTaskIds());
+            keys.addAll(this.overrides.keySet());
+            this.keys = Collections.unmodifiableSet(keys);
+        }
+
+        return this.keys;
+    }
+
+    private Object resolve(String taskId) {
+        Object outputs = this.execution.outputs(taskId);
+
+        if (outputs == null) {
+            return NONE;
+        }
+
+        return this.decryptor == null ? outputs : this.decryptor.apply(outputs);
+    }
+}
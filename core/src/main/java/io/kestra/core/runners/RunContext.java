@@ -312,11 +312,7 @@ public class RunContext {
                 .put("execution", executionMap.build());
 
             if (execution.getTaskRunList() != null) {
-                Map<String, Object> outputs = new HashMap<>(execution.outputs());
-                if (decryptVariables) {
-                    decryptOutputs(outputs);
-                }
-                builder.put("outputs", outputs);
+                builder.put("outputs", new OutputsVariables(execution, decryptVariables ? this::decryptOutput : null));
             }
 
             Map<String, Object> inputs = new HashMap<>();
@@ -378,6 +374,14 @@ public class RunContext {
         return builder.build();
     }
 
+    private Object decryptOutput(Object output) {
+        Map<String, Object> outputs = new HashMap<>();
+        outputs.put("output", output);
+        decryptOutputs(outputs);
+
+        return outputs.get("output");
+    }
+
     private void decryptOutputs(Map<String, Object> outputs) {
         for (var entry: outputs.entrySet()) {
             if (entry.getValue() instanceof Map map) {
@@ -424,9 +428,13 @@ public class RunContext {
     public RunContext updateVariables(WorkerTaskResult workerTaskResult, TaskRun parent) {
         Map<String, Object> variables = new HashMap<>(this.variables);
 
-        HashMap<String, Object> outputs = this.variables.containsKey("outputs") ?
-            new HashMap<>((Map<String, Object>) this.variables.get("outputs")) :
-            new HashMap<>();
+        Object previousOutputs = this.variables.get("outputs");
+        Map<String, Object> outputs;
+        if (previousOutputs instanceof OutputsVariables) {
+            outputs = (OutputsVariables) previousOutputs;
+        } else {
+            outputs = previousOutputs != null ? new HashMap<>((Map<String, Object>) previousOutputs) : new HashMap<>();
+        }
 
 
         Map<String, Object> result = new HashMap<>();
@@ -452,7 +460,12 @@ public class RunContext {
             current.putAll(workerTaskResult.getTaskRun().getOutputs());
         }
 
-        outputs.put(workerTaskResult.getTaskRun().getTaskId(), result);
+        if (outputs instanceof OutputsVariables outputsVariables) {
+            // keep the outputs lazy, only the outputs of this task are replaced
+            outputs = outputsVariables.with(workerTaskResult.getTaskRun().getTaskId(), result);
+        } else {
+            outputs.put(workerTaskResult.getTaskRun().getTaskId(), result);
+        }
 
         variables.remove("outputs");
         variables.put("outputs", outputs);
@@ -460,6 +473,30 @@ public class RunContext {
         return this.clone(variables);
     }
 
+    /**
+     * Restrict the outputs variable to the outputs of the given tasks, used to avoid sending the outputs of the whole
+     * execution to the worker with each {@link WorkerTask}.
+     */
+    RunContext withOutputsOf(Set<String> taskIds) {
+        if (!(this.variables.get("outputs") instanceof Map<?, ?> outputs)) {
+            return this;
+        }
+
+        Map<String, Object> restricted = new HashMap<>();
+        for (String taskId : taskIds) {
+            Object value = outputs.get(taskId);
+            if (value != null) {
+                restricted.put(taskId, value);
+            }
+        }
+
+        Map<String, Object> variables = new HashMap<>(this.variables);
+        variables.put("outputs", restricted);
+        this.variables = Collections.unmodifiableMap(variables);
+
+        return this;
+    }
+
     private RunContext clone(Map<String, Object> variables) {
         RunContext runContext = new RunContext();
         runContext.variableRenderer = this.variableRenderer;
@@ -1,14 +1,10 @@
 package io.kestra.core.runners;
 
 import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.classic.spi.ThrowableProxy;
-import ch.qos.logback.classic.util.LogbackMDCAdapter;
-import ch.qos.logback.core.AppenderBase;
 import com.cronutils.utils.VisibleForTesting;
 import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
@@ -18,24 +14,31 @@ import io.kestra.core.utils.IdUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.helpers.LegacyAbstractLogger;
 
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 public class RunContextLogger {
     private static final int MAX_MESSAGE_LENGTH = 1024*10;
+    private static final ch.qos.logback.classic.Logger FORWARD_LOGGER = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("flow");
+    private static final StackTraceElement[] EMPTY_CALLER_DATA = new StackTraceElement[0];
 
     private final String loggerName;
-    private Logger logger;
+    private org.slf4j.Logger logger;
     private QueueInterface<LogEntry> logQueue;
     private LogEntry logEntry;
     private Level loglevel;
-    private List<String> useSecrets = new ArrayList<>();
+    private final Set<String> useSecrets = new LinkedHashSet<>();
+    private volatile SecretMasker secretMasker = SecretMasker.EMPTY;
 
     @VisibleForTesting
     public RunContextLogger() {
         this.loggerName = "unit-test";
+        this.loglevel = Level.DEBUG;
     }
 
     public RunContextLogger(QueueInterface<LogEntry> logQueue, LogEntry logEntry, org.slf4j.event.Level loglevel) {
@@ -127,163 +130,194 @@ public class RunContextLogger {
 
     public void usedSecret(String secret) {
         if (secret != null) {
-            this.useSecrets.add(secret);
+            synchronized (this.useSecrets) {
+                if (this.useSecrets.add(secret)) {
+                    this.secretMasker = SecretMasker.of(this.useSecrets);
+                }
+            }
         }
     }
 
     public org.slf4j.Logger logger() {
         if (this.logger == null) {
-            LoggerContext loggerContext = new LoggerContext();
-            LogbackMDCAdapter mdcAdapter = new LogbackMDCAdapter();
-
-            loggerContext.setMDCAdapter(mdcAdapter);
-            loggerContext.start();
-
-            this.logger = loggerContext.getLogger(this.loggerName);
-
             // unit test don't need the logqueue
             if (this.logQueue != null && this.logEntry != null) {
-                ContextAppender contextAppender = new ContextAppender(this, this.logger, this.logQueue, this.logEntry);
-                contextAppender.setContext(loggerContext);
-                contextAppender.start();
-
-                this.logger.addAppender(contextAppender);
-
                 MDC.setContextMap(this.logEntry.toMap());
             }
 
-            ForwardAppender forwardAppender = new ForwardAppender(this, this.logger);
-            forwardAppender.setContext(loggerContext);
-            forwardAppender.start();
-            this.logger.addAppender(forwardAppender);
-
-            this.logger.setLevel(this.loglevel);
-            this.logger.setAdditive(true);
+            this.logger = new ContextLogger(this);
         }
 
         return this.logger;
     }
 
-    @Slf4j
-    public abstract static class BaseAppender extends AppenderBase<ILoggingEvent> {
-        protected RunContextLogger runContextLogger;
-        protected Logger logger;
+    private boolean isEnabledFor(Level level) {
+        return level.isGreaterOrEqual(this.loglevel);
+    }
 
-        protected BaseAppender(RunContextLogger runContextLogger, Logger logger) {
-            this.runContextLogger = runContextLogger;
-            this.logger = logger;
+    private void log(Level level, String message, Object[] arguments, Throwable throwable) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(this.loggerName);
+        event.setLoggerContextRemoteView(FORWARD_LOGGER.getLoggerContext().getLoggerContextRemoteView());
+        event.setLevel(level);
+        event.setTimeStamp(Instant.now().toEpochMilli());
+        event.setThreadName(Thread.currentThread().getName());
+        event.setMDCPropertyMap(Collections.emptyMap());
+        event.setCallerData(EMPTY_CALLER_DATA);
+
+        try {
+            SecretMasker secretMasker = this.secretMasker;
+            event.setMessage(secretMasker.mask(message));
+            event.setArgumentArray(replaceSecret(secretMasker, arguments));
+        } catch (Throwable e) {
+            log.warn("Unable to replace secret", e);
+            event.setMessage(message);
+            event.setArgumentArray(arguments);
         }
 
-        private String replaceSecret(String data) {
-            for (String s : runContextLogger.useSecrets) {
-                if (data.contains(s)) {
-                    data = data.replace(s, "*".repeat(s.length()));
-                    data = data.replaceFirst("[*]{9}", "**masked*");
-                }
-            }
+        if (throwable != null) {
+            event.setThrowableProxy(new ThrowableProxy(throwable));
+        }
+
+        if (this.logQueue != null && this.logEntry != null) {
+            logEntries(event, this.logEntry)
+                .forEach(this.logQueue::emitAsync);
+        }
 
+        if (FORWARD_LOGGER.isEnabledFor(level)) {
+            FORWARD_LOGGER.callAppenders(event);
+        }
+    }
+
+    /**
+     * Mask the secrets in the arguments, the arguments (and the maps and collections they contain) are only copied
+     * when a secret was found.
+     */
+    private static Object[] replaceSecret(SecretMasker secretMasker, Object[] data) {
+        if (data == null || secretMasker.isEmpty()) {
             return data;
         }
 
-        private Object recursive(Object object) {
-            if (object instanceof Map<?, ?> value) {
-                return value
-                    .entrySet()
-                    .stream()
-                    .map(e -> new AbstractMap.SimpleEntry<>(
-                        recursive(e.getKey()),
-                        recursive(e.getValue())
-                    ))
-                    .collect(HashMap::new, (m, v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll);
-            } else if (object instanceof Collection<?> value) {
-                return value
-                    .stream()
-                    .map(this::recursive)
-                    .collect(Collectors.toList());
-            } else if (object instanceof String string) {
-                return replaceSecret(string);
-            } else {
-                return object;
+        Object[] result = null;
+
+        for (int i = 0; i < data.length; i++) {
+            Object masked = mask(secretMasker, data[i]);
+
+            if (masked != data[i]) {
+                if (result == null) {
+                    result = data.clone();
+                }
+                result[i] = masked;
             }
         }
 
-        private Object[] replaceSecret(Object[] data) {
-            if (data == null) {
-                return data;
-            }
+        return result == null ? data : result;
+    }
 
-            Object[] result = new Object[data.length];
+    private static Object mask(SecretMasker secretMasker, Object object) {
+        if (object instanceof String string) {
+            return secretMasker.mask(string);
+        } else if (object instanceof Map<?, ?> value) {
+            Map<Object, Object> result = null;
+            int index = 0;
+
+            for (Map.Entry<?, ?> entry : value.entrySet()) {
+                Object key = mask(secretMasker, entry.getKey());
+                Object masked = mask(secretMasker, entry.getValue());
+
+                if (result == null && (key != entry.getKey() || masked != entry.getValue())) {
+                    // the previous entries don't contain any secret, they are copied as is
+                    result = new HashMap<>(value.size());
+                    Iterator<? extends Map.Entry<?, ?>> previous = value.entrySet().iterator();
+                    for (int i = 0; i < index; i++) {
+                        Map.Entry<?, ?> copy = previous.next();
+                        result.put(copy.getKey(), copy.getValue());
+                    }
+                }
+
+                if (result != null) {
+                    result.put(key, masked);
+                }
 
-            for (int i = 0; i < data.length; i++) {
-                result[i] = recursive(data[i]);
+                index++;
             }
 
-            return result;
-        }
+            return result == null ? value : result;
+        } else if (object instanceof Collection<?> value) {
+            List<Object> result = null;
+            int index = 0;
+
+            for (Object item : value) {
+                Object masked = mask(secretMasker, item);
+
+                if (result == null && masked != item) {
+                    // the previous items don't contain any secret, they are copied as is
+                    result = new ArrayList<>(value.size());
+                    Iterator<?> previous = value.iterator();
+                    for (int i = 0; i < index; i++) {
+                        result.add(previous.next());
+                    }
+                }
 
-        protected ILoggingEvent transform(ILoggingEvent event) {
-            try {
-                String message = replaceSecret(event.getMessage());
-                Object[] argumentArray = replaceSecret(event.getArgumentArray());
-
-                return new LoggingEvent(
-                    "ch.qos.logback.classic.Logger",
-                    this.logger,
-                    event.getLevel(),
-                    message,
-                    event.getThrowableProxy() instanceof ThrowableProxy ? ((ThrowableProxy) event.getThrowableProxy()).getThrowable() : null,
-                    argumentArray
-                );
-            } catch (Throwable e) {
-                log.warn("Unable to replace secret", e);
-                return event;
+                if (result != null) {
+                    result.add(masked);
+                }
+
+                index++;
             }
+
+            return result == null ? value : result;
+        } else {
+            return object;
         }
     }
 
-    public static class ContextAppender extends BaseAppender {
-        private final QueueInterface<LogEntry> logQueue;
-        private final LogEntry logEntry;
+    /**
+     * The logger of a run context: a lightweight handle that sends the events to the log queue, with the
+     * {@link LogEntry} of the run context, and forwards them to the <code>flow</code> logger of the shared Logback context.
+     * No Logback logger, context or appender is created for each run context.
+     */
+    private static class ContextLogger extends LegacyAbstractLogger {
+        private final transient RunContextLogger runContextLogger;
 
-        public ContextAppender(RunContextLogger runContextLogger, Logger logger, QueueInterface<LogEntry> logQueue, LogEntry logEntry) {
-            super(runContextLogger, logger);
-            this.logQueue = logQueue;
-            this.logEntry = logEntry;
+        private ContextLogger(RunContextLogger runContextLogger) {
+            this.runContextLogger = runContextLogger;
+            this.name = runContextLogger.loggerName;
         }
 
         @Override
-        protected void append(ILoggingEvent e) {
-            e = this.transform(e);
-
-            logEntries(e, logEntry)
-                .forEach(logQueue::emitAsync);
+        public boolean isTraceEnabled() {
+            return this.runContextLogger.isEnabledFor(Level.TRACE);
         }
-    }
 
-    public static class ForwardAppender extends BaseAppender {
-        private static final ch.qos.logback.classic.Logger LOGGER = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger("flow");
+        @Override
+        public boolean isDebugEnabled() {
+            return this.runContextLogger.isEnabledFor(Level.DEBUG);
+        }
 
-        protected ForwardAppender(RunContextLogger runContextLogger, Logger logger) {
-            super(runContextLogger, logger);
+        @Override
+        public boolean isInfoEnabled() {
+            return this.runContextLogger.isEnabledFor(Level.INFO);
         }
 
         @Override
-        public void start() {
-            super.start();
+        public boolean isWarnEnabled() {
+            return this.runContextLogger.isEnabledFor(Level.WARN);
         }
 
         @Override
-        public void stop() {
-            super.stop();
+        public boolean isErrorEnabled() {
+            return this.runContextLogger.isEnabledFor(Level.ERROR);
         }
 
         @Override
-        protected void append(ILoggingEvent e) {
-            e = this.transform(e);
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
 
-            if (LOGGER.isEnabledFor(e.getLevel())) {
-                LOGGER.callAppenders(e);
-            }
+        @Override
+        protected void handleNormalizedLoggingCall(org.slf4j.event.Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+            this.runContextLogger.log(Level.toLevel(level.toString()), messagePattern, arguments, throwable);
         }
     }
 }
@@ -0,0 +1,143 @@
+package io.kestra.core.runners;
+
+import java.util.*;
+
+/**
+ * Mask the occurrences of a set of secrets in a string in a single pass, using an Aho-Corasick automaton built once
+ * for all the secrets.
+ * Each occurrence is replaced by stars, then for each secret found, the first run of 9 stars is replaced by
+ * <code>**masked*</code>, so the masked text keeps the length of the original one.
+ * Instances are immutable, a new one must be built when a secret is added.
+ */
+final class SecretMasker {
+    static final SecretMasker EMPTY = new SecretMasker(Collections.emptySet());
+
+    private static final String MASKED_LABEL = "**masked*";
+    private static final String MASKED_RUN = "[*]{9}";
+
+    private final Node root = new Node();
+    private final boolean empty;
+
+    private SecretMasker(Collection<String> secrets) {
+        int id = 0;
+
+        for (String secret : secrets) {
+            if (secret == null || secret.isEmpty()) {
+                continue;
+            }
+
+            Node node = this.root;
+            for (int i = 0; i < secret.length(); i++) {
+                node = node.children.computeIfAbsent(secret.charAt(i), c -> new Node());
+            }
+            if (node.length < secret.length()) {
+                node.length = secret.length();
+                node.id = id++;
+            }
+        }
+
+        this.empty = id == 0;
+        this.buildFailureLinks();
+    }
+
+    static SecretMasker of(Collection<String> secrets) {
+        return new SecretMasker(secrets);
+    }
+
+    boolean isEmpty() {
+        return this.empty;
+    }
+
+    /**
+     * @return the masked string, or the same instance if no secret was found
+     */
+    String mask(String data) {
+        if (this.empty || data == null || data.isEmpty()) {
+            return data;
+        }
+
+        char[] chars = null;
+        BitSet found = null;
+        Node state = this.root;
+
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+
+            Node next = state.children.get(c);
+            while (next == null && state != this.root) {
+                state = state.failure;
+                next = state.children.get(c);
+            }
+            state = next == null ? this.root : next;
+
+            if (state.longestMatch > 0) {
+                if (chars == null) {
+                    chars = data.toCharArray();
+                    found = new BitSet();
+                }
+
+                // an overlapping secret may already have masked a part of this one, so it's masked again from its start
+                Arrays.fill(chars, i - state.longestMatch + 1, i + 1, '*');
+
+                found.set(state.longestMatchId);
+            }
+        }
+
+        if (chars == null) {
+            return data;
+        }
+
+        String result = new String(chars);
+        for (int i = 0; i < found.cardinality(); i++) {
+            result = result.replaceFirst(MASKED_RUN, MASKED_LABEL);
+        }
+
+        return result;
+    }
+
+    private void buildFailureLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+
+        for (Node child : this.root.children.values()) {
+            child.failure = this.root;
+            child.longestMatch = child.length;
+            child.longestMatchId = child.id;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+
+                Node failure = node.failure;
+                while (failure != this.root && !failure.children.containsKey(entry.getKey())) {
+                    failure = failure.failure;
+                }
+
+                Node target = failure.children.get(entry.getKey());
+                child.failure = target != null && target != child ? target : this.root;
+                // a shorter secret ending at the same position is a suffix of the longest one, so it's already masked
+                if (child.length >= child.failure.longestMatch) {
+                    child.longestMatch = child.length;
+                    child.longestMatchId = child.id;
+                } else {
+                    child.longestMatch = child.failure.longestMatch;
+                    child.longestMatchId = child.failure.longestMatchId;
+                }
+
+                queue.add(child);
+            }
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private int length = 0;
+        private int id = -1;
+        private int longestMatch = 0;
+        private int longestMatchId = -1;
+    }
+}
@@ -1,6 +1,7 @@
 package io.kestra.core.runners;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.pebble.ExtensionCustomizer;
 import io.kestra.core.runners.pebble.JsonWriter;
 import io.kestra.core.runners.pebble.PebbleLruCache;
@@ -26,6 +27,8 @@ import java.util.regex.Pattern;
 @Singleton
 public class VariableRenderer {
     private static final Pattern RAW_PATTERN = Pattern.compile("(\\{%-*\\s*raw\\s*-*%}(.*?)\\{%-*\\s*endraw\\s*-*%})");
+    // raw tags are replaced by indexed placeholders, the same for each render, so the compiled template can be cached
+    private static final String RAW_PLACEHOLDER_PREFIX = "__raw_" + UUID.randomUUID().toString().replace("-", "") + "_";
     public static final int MAX_RENDERING_AMOUNT = 100;
 
     private final PebbleEngine pebbleEngine;
@@ -47,7 +50,10 @@ public class VariableRenderer {
             .forEach(pebbleBuilder::extension);
 
         if (this.variableConfiguration.getCacheEnabled()) {
-            pebbleBuilder.templateCache(new PebbleLruCache(this.variableConfiguration.getCacheSize()));
+            PebbleLruCache cache = new PebbleLruCache(this.variableConfiguration.getCacheSize());
+            applicationContext.findBean(MetricRegistry.class).ifPresent(cache::bindMetrics);
+
+            pebbleBuilder.templateCache(cache);
         }
 
         this.pebbleEngine = pebbleBuilder.build();
@@ -90,7 +96,7 @@ public class VariableRenderer {
     public String renderOnce(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
         // pre-process raw tags
         Matcher rawMatcher = RAW_PATTERN.matcher(inline);
-        Map<String, String> replacers = new HashMap<>((int) Math.ceil(rawMatcher.groupCount() / 0.75));
+        List<String> replacers = new ArrayList<>();
         String result = replaceRawTags(rawMatcher, replacers);
 
         try {
@@ -111,21 +117,24 @@ public class VariableRenderer {
         return result;
     }
 
-    private static String putBackRawTags(Map<String, String> replacers, String result) {
-        for (var entry : replacers.entrySet()) {
-            result = result.replace(entry.getKey(), entry.getValue());
+    private static String putBackRawTags(List<String> replacers, String result) {
+        for (int i = 0; i < replacers.size(); i++) {
+            result = result.replace(rawPlaceholder(i), replacers.get(i));
         }
         return result;
     }
 
-    private static String replaceRawTags(Matcher rawMatcher, Map<String, String> replacers) {
+    private static String replaceRawTags(Matcher rawMatcher, List<String> replacers) {
         return rawMatcher.replaceAll(matchResult -> {
-            var uuid = UUID.randomUUID().toString();
-            replacers.put(uuid, matchResult.group(1));
-            return uuid;
+            replacers.add(matchResult.group(1));
+            return rawPlaceholder(replacers.size() - 1);
         });
     }
 
+    private static String rawPlaceholder(int index) {
+        return RAW_PLACEHOLDER_PREFIX + index + "__";
+    }
+
     public String renderRecursively(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
         return this.renderRecursively(0, inline, variables);
     }
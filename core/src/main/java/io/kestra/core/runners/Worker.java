@@ -32,14 +32,15 @@ import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.core.utils.Hashing;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.Timeout;
@@ -53,6 +54,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -90,6 +92,10 @@ public class Worker implements Service, Runnable, AutoCloseable {
     @Named(QueueFactoryInterface.METRIC_QUEUE)
     private QueueInterface<MetricEntry> metricEntryQueue;
 
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
     @Inject
     private MetricRegistry metricRegistry;
 
@@ -99,6 +105,12 @@ public class Worker implements Service, Runnable, AutoCloseable {
     @Inject
     private LogService logService;
 
+    @Value("${kestra.worker.prefetch:0}")
+    private Integer prefetch;
+
+    @Value("${kestra.worker.virtual-concurrency:0}")
+    private Integer virtualConcurrency;
+
     private final Set<String> killedExecution = ConcurrentHashMap.newKeySet();
 
     @Getter
@@ -108,7 +120,7 @@ public class Worker implements Service, Runnable, AutoCloseable {
     @Getter
     private final Map<String, AtomicInteger> evaluateTriggerRunningCount = new ConcurrentHashMap<>();
 
-    private final List<WorkerThread> workerThreadReferences = new ArrayList<>();
+    private final List<WorkerTaskRunnable> workerThreadReferences = new ArrayList<>();
 
     private final ApplicationEventPublisher<ServiceStateChangeEvent> eventPublisher;
 
@@ -122,6 +134,17 @@ public class Worker implements Service, Runnable, AutoCloseable {
     // package private to allow its usage within tests
     final ExecutorService executorService;
 
+    @Getter
+    private final ThreadMode threadMode;
+
+    // only used with virtual threads, as the executor will not limit the number of concurrent jobs
+    private Semaphore concurrency;
+
+    private final int numThreads;
+
+    // jobs received and not yet completed, running or waiting for a thread
+    private final AtomicInteger pendingJobs = new AtomicInteger(0);
+
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
 
     private final AtomicReference<ServiceState> state = new AtomicReference<>();
@@ -132,6 +155,7 @@ public class Worker implements Service, Runnable, AutoCloseable {
      * @param workerId       The worker service ID.
      * @param numThreads     The worker num threads.
      * @param workerGroupKey The worker group (EE).
+     * @param threadMode     How the task attempts are run, see {@link ThreadMode}.
      */
     @Inject
     public Worker(@Parameter String workerId,
@@ -139,12 +163,30 @@ public class Worker implements Service, Runnable, AutoCloseable {
                   @Nullable @Parameter String workerGroupKey,
                   ApplicationEventPublisher<ServiceStateChangeEvent> eventPublisher,
                   WorkerGroupService workerGroupService,
-                  ExecutorsUtils executorsUtils
+                  ExecutorsUtils executorsUtils,
+                  @Value("${kestra.worker.thread-mode:DEDICATED}") ThreadMode threadMode
     ) {
         this.id = workerId;
         this.workerGroup = workerGroupService.resolveGroupFromKey(workerGroupKey);
         this.eventPublisher = eventPublisher;
-        this.executorService = executorsUtils.maxCachedThreadPool(numThreads, "worker");
+        this.numThreads = numThreads;
+
+        ExecutorService virtualExecutorService = threadMode == ThreadMode.VIRTUAL ?
+            executorsUtils.virtualThreadPerTaskExecutor("worker").orElse(null) :
+            null;
+
+        if (virtualExecutorService != null) {
+            this.threadMode = ThreadMode.VIRTUAL;
+            this.executorService = virtualExecutorService;
+        } else {
+            if (threadMode == ThreadMode.VIRTUAL) {
+                log.warn("Virtual threads are not available on this Java runtime, falling back to the '{}' thread mode", ThreadMode.POOLED);
+            }
+
+            this.threadMode = threadMode == ThreadMode.VIRTUAL ? ThreadMode.POOLED : threadMode;
+            this.executorService = executorsUtils.maxCachedThreadPool(numThreads, "worker");
+        }
+
         setState(ServiceState.CREATED);
     }
 
@@ -160,14 +202,26 @@ public class Worker implements Service, Runnable, AutoCloseable {
             workerGroupKey,
             context.getBean(ApplicationEventPublisher.class),
             context.getBean(WorkerGroupService.class),
-            context.getBean(ExecutorsUtils.class)
+            context.getBean(ExecutorsUtils.class),
+            context.getProperty("kestra.worker.thread-mode", ThreadMode.class).orElse(ThreadMode.DEDICATED)
         );
         context.inject(this);
     }
 
     @Override
     public void run() {
+        if (this.threadMode == ThreadMode.VIRTUAL) {
+            this.concurrency = new Semaphore(this.jobThreads());
+        }
+
         setState(ServiceState.RUNNING);
+
+        this.metricRegistry.gauge(
+            MetricRegistry.METRIC_WORKER_JOB_PENDING_COUNT,
+            this.pendingJobs,
+            this.workerGroup == null ? new String[0] : new String[]{MetricRegistry.TAG_WORKER_GROUP, this.workerGroup}
+        );
+
         this.executionKilledQueue.receive(executionKilled -> {
             if (executionKilled == null || !executionKilled.isLeft()) {
                 return;
@@ -182,32 +236,86 @@ public class Worker implements Service, Runnable, AutoCloseable {
                 workerThreadReferences
                     .stream()
                     .filter(workerThread -> executionKilled.getLeft().getExecutionId().equals(workerThread.getWorkerTask().getTaskRun().getExecutionId()))
-                    .forEach(WorkerThread::kill);
+                    .forEach(WorkerTaskRunnable::kill);
             }
         });
 
         this.workerJobQueue.receive(
             this.workerGroup,
             Worker.class,
+            this::availableJobSlots,
             either -> {
-                executorService.execute(() -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize a worker job: {}", either.getRight().getMessage());
-                        handleDeserializationError(either.getRight());
-                        return;
-                    }
+                this.pendingJobs.incrementAndGet();
 
-                    WorkerJob workerTask = either.getLeft();
-                    if (workerTask instanceof WorkerTask task) {
-                        handleTask(task);
-                    } else if (workerTask instanceof WorkerTrigger trigger) {
-                        handleTrigger(trigger);
-                    }
-                });
+                try {
+                    this.execute(() -> {
+                        try {
+                            if (either.isRight()) {
+                                log.error("Unable to deserialize a worker job: {}", either.getRight().getMessage());
+                                handleDeserializationError(either.getRight());
+                                return;
+                            }
+
+                            WorkerJob workerTask = either.getLeft();
+                            if (workerTask instanceof WorkerTask task) {
+                                handleTask(task);
+                            } else if (workerTask instanceof WorkerTrigger trigger) {
+                                handleTrigger(trigger);
+                            }
+                        } finally {
+                            this.pendingJobs.decrementAndGet();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    // the executor rejected the job
+                    this.pendingJobs.decrementAndGet();
+                    throw e;
+                }
             }
         );
     }
 
+    /**
+     * The number of jobs we can receive: one by free thread plus the configured prefetch, so the other workers can take
+     * the jobs we would not be able to start right away.
+     */
+    private int availableJobSlots() {
+        return Math.max(0, this.jobThreads() + this.prefetch - this.pendingJobs.get());
+    }
+
+    /**
+     * The number of jobs run concurrently: the worker threads, or the configured virtual concurrency with virtual threads.
+     */
+    private int jobThreads() {
+        if (this.threadMode == ThreadMode.VIRTUAL && this.virtualConcurrency != null && this.virtualConcurrency > 0) {
+            return this.virtualConcurrency;
+        }
+
+        return this.numThreads;
+    }
+
+    private void execute(Runnable runnable) {
+        if (this.concurrency == null) {
+            this.executorService.execute(runnable);
+            return;
+        }
+
+        this.executorService.execute(() -> {
+            try {
+                this.concurrency.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                runnable.run();
+            } finally {
+                this.concurrency.release();
+            }
+        });
+    }
+
     private void setState(final ServiceState state) {
         this.state.set(state);
         Map<String, Object> properties = new HashMap<>();
@@ -468,6 +576,9 @@ public class Worker implements Service, Runnable, AutoCloseable {
             state = WARNING;
         }
 
+        // logs are sent asynchronously, they must be sent before the task is terminated
+        this.logQueue.flush();
+
         // emit
         finalWorkerTask = finalWorkerTask.withTaskRun(finalWorkerTask.getTaskRun().withState(state));
 
@@ -556,7 +667,7 @@ public class Worker implements Service, Runnable, AutoCloseable {
 
         metricRunningCount.incrementAndGet();
 
-        WorkerThread workerThread = new WorkerThread(logger, workerTask, task, runContext, metricRegistry, workerGroup);
+        WorkerTaskRunnable workerTaskRunnable = new WorkerTaskRunnable(logger, workerTask, task, runContext, metricRegistry, workerGroup);
 
         // emit attempts
         this.workerTaskResultQueue.emit(new WorkerTaskResult(workerTask
@@ -570,17 +681,24 @@ public class Worker implements Service, Runnable, AutoCloseable {
         io.kestra.core.models.flows.State.Type state;
         try {
             synchronized (this) {
-                workerThreadReferences.add(workerThread);
+                workerThreadReferences.add(workerTaskRunnable);
             }
-            workerThread.start();
-            workerThread.join();
-            state = workerThread.getTaskState();
+
+            if (this.threadMode == ThreadMode.DEDICATED) {
+                Thread workerThread = new WorkerThread(workerTaskRunnable);
+                workerThread.start();
+                workerThread.join();
+            } else {
+                workerTaskRunnable.run();
+            }
+
+            state = workerTaskRunnable.getTaskState();
         } catch (InterruptedException e) {
             logger.error("Failed to join WorkerThread {}", e.getMessage(), e);
             state = workerTask.getTask().isAllowFailure() ? WARNING : FAILED;
         } finally {
             synchronized (this) {
-                workerThreadReferences.remove(workerThread);
+                workerThreadReferences.remove(workerTaskRunnable);
             }
         }
 
@@ -601,7 +719,7 @@ public class Worker implements Service, Runnable, AutoCloseable {
             .withAttempts(attempts);
 
         try {
-            taskRun = taskRun.withOutputs(workerThread.getTaskOutput() != null ? workerThread.getTaskOutput().toMap() : ImmutableMap.of());
+            taskRun = taskRun.withOutputs(workerTaskRunnable.getTaskOutput() != null ? workerTaskRunnable.getTaskOutput().toMap() : ImmutableMap.of());
         } catch (Exception e) {
             logger.warn("Unable to save output on taskRun '{}'", taskRun, e);
         }
@@ -713,11 +831,38 @@ public class Worker implements Service, Runnable, AutoCloseable {
     }
 
     public List<WorkerTask> getWorkerThreadTasks() {
-        return this.workerThreadReferences.stream().map(thread -> thread.workerTask).toList();
+        return this.workerThreadReferences.stream().map(WorkerTaskRunnable::getWorkerTask).toList();
     }
 
+    /**
+     * How the worker runs the task attempts.
+     */
+    public enum ThreadMode {
+        /**
+         * Each attempt is run on a new platform thread, the worker pool thread waiting for it.
+         */
+        DEDICATED,
+        /**
+         * Each attempt is run directly on the worker pool thread.
+         */
+        POOLED,
+        /**
+         * Each job is run on a new virtual thread, so a worker can run a lot of IO-bound tasks concurrently, up to
+         * 'kestra.worker.virtual-concurrency' jobs (the worker thread count when not set).
+         * Needs a Java 21+ runtime, {@link #POOLED} is used otherwise.
+         */
+        VIRTUAL
+    }
+
+    /**
+     * Run a task attempt on the current thread.
+     * A kill interrupts the thread only while the attempt is running, and an attempt killed before starting is not run,
+     * so it can be used on a thread that will run other attempts afterward.
+     */
     @Getter
-    public static class WorkerThread extends Thread {
+    public static class WorkerTaskRunnable implements Runnable {
+        private static final ThreadLocal<WorkerTaskRunnable> CURRENT = new ThreadLocal<>();
+
         Logger logger;
         WorkerTask workerTask;
         RunnableTask<?> task;
@@ -726,13 +871,16 @@ public class Worker implements Service, Runnable, AutoCloseable {
         String workerGroup;
 
         Output taskOutput;
-        io.kestra.core.models.flows.State.Type taskState;
+        volatile io.kestra.core.models.flows.State.Type taskState;
         volatile boolean killed = false;
 
-        public WorkerThread(Logger logger, WorkerTask workerTask, RunnableTask<?> task, RunContext runContext, MetricRegistry metricRegistry, String workerGroup) {
-            super("WorkerThread");
-            this.setUncaughtExceptionHandler(this::exceptionHandler);
+        @Getter(AccessLevel.NONE)
+        private Thread runner;
 
+        @Getter(AccessLevel.NONE)
+        private boolean interrupted = false;
+
+        public WorkerTaskRunnable(Logger logger, WorkerTask workerTask, RunnableTask<?> task, RunContext runContext, MetricRegistry metricRegistry, String workerGroup) {
             this.logger = logger;
             this.workerTask = workerTask;
             this.task = task;
@@ -741,9 +889,22 @@ public class Worker implements Service, Runnable, AutoCloseable {
             this.workerGroup = workerGroup;
         }
 
+        /**
+         * @return true if the current thread is running a task attempt
+         */
+        public static boolean isRunningOnCurrentThread() {
+            return CURRENT.get() != null;
+        }
+
         @Override
         public void run() {
+            if (!this.start()) {
+                return;
+            }
+
+            ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
             Thread.currentThread().setContextClassLoader(this.task.getClass().getClassLoader());
+            CURRENT.set(this);
 
             try {
                 // timeout
@@ -774,20 +935,48 @@ public class Worker implements Service, Runnable, AutoCloseable {
                     taskState = taskOutput.finalState().get();
                 }
             } catch (net.jodah.failsafe.TimeoutExceededException e) {
-                this.exceptionHandler(this, new TimeoutExceededException(workerTask.getTask().getTimeout(), e));
-            } catch (Exception e) {
-                this.exceptionHandler(this, e);
+                this.interrupted = true;
+                this.exceptionHandler(new TimeoutExceededException(workerTask.getTask().getTimeout(), e));
+            } catch (Throwable e) {
+                this.exceptionHandler(e);
+            } finally {
+                CURRENT.remove();
+                Thread.currentThread().setContextClassLoader(previousClassLoader);
+                this.finish();
             }
         }
 
-        @Synchronized
-        public void kill() {
+        private synchronized boolean start() {
+            if (this.killed) {
+                return false;
+            }
+
+            this.runner = Thread.currentThread();
+            return true;
+        }
+
+        private void finish() {
+            synchronized (this) {
+                this.runner = null;
+            }
+
+            // no kill can interrupt the thread anymore, clear the interruption that we sent so it is not seen by the next job
+            if (this.killed || this.interrupted) {
+                //noinspection ResultOfMethodCallIgnored
+                Thread.interrupted();
+            }
+        }
+
+        public synchronized void kill() {
             this.killed = true;
             taskState = KILLED;
-            this.interrupt();
+
+            if (this.runner != null) {
+                this.runner.interrupt();
+            }
         }
 
-        private void exceptionHandler(Thread t, Throwable e) {
+        private void exceptionHandler(Throwable e) {
             if (!this.killed) {
                 logger.error(e.getMessage(), e);
                 taskState = FAILED;
@@ -795,6 +984,72 @@ public class Worker implements Service, Runnable, AutoCloseable {
         }
     }
 
+    /**
+     * A thread running a task attempt, kept for the plugins using it.
+     *
+     * @deprecated use {@link WorkerTaskRunnable}, that can be run on any thread.
+     */
+    @Deprecated(forRemoval = true)
+    public static class WorkerThread extends Thread {
+        private final WorkerTaskRunnable workerTaskRunnable;
+
+        public WorkerThread(Logger logger, WorkerTask workerTask, RunnableTask<?> task, RunContext runContext, MetricRegistry metricRegistry, String workerGroup) {
+            this(new WorkerTaskRunnable(logger, workerTask, task, runContext, metricRegistry, workerGroup));
+        }
+
+        WorkerThread(WorkerTaskRunnable workerTaskRunnable) {
+            super(workerTaskRunnable, "WorkerThread");
+            this.workerTaskRunnable = workerTaskRunnable;
+        }
+
+        /**
+         * @return true if the current thread is running a task attempt
+         */
+        public static boolean isRunningOnCurrentThread() {
+            return WorkerTaskRunnable.isRunningOnCurrentThread();
+        }
+
+        public void kill() {
+            this.workerTaskRunnable.kill();
+        }
+
+        public Logger getLogger() {
+            return this.workerTaskRunnable.getLogger();
+        }
+
+        public WorkerTask getWorkerTask() {
+            return this.workerTaskRunnable.getWorkerTask();
+        }
+
+        public RunnableTask<?> getTask() {
+            return this.workerTaskRunnable.getTask();
+        }
+
+        public RunContext getRunContext() {
+            return this.workerTaskRunnable.getRunContext();
+        }
+
+        public MetricRegistry getMetricRegistry() {
+            return this.workerTaskRunnable.getMetricRegistry();
+        }
+
+        public String getWorkerGroup() {
+            return this.workerTaskRunnable.getWorkerGroup();
+        }
+
+        public Output getTaskOutput() {
+            return this.workerTaskRunnable.getTaskOutput();
+        }
+
+        public io.kestra.core.models.flows.State.Type getTaskState() {
+            return this.workerTaskRunnable.getTaskState();
+        }
+
+        public boolean isKilled() {
+            return this.workerTaskRunnable.isKilled();
+        }
+    }
+
     /**
      * Specify whether to skip graceful termination on shutdown.
      *
@@ -2,11 +2,13 @@ package io.kestra.core.runners.pebble;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import io.pebbletemplates.pebble.cache.PebbleCache;
 import io.pebbletemplates.pebble.template.PebbleTemplate;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ExecutionException;
+import java.util.Collections;
 import java.util.function.Function;
 
 @Slf4j
@@ -17,9 +19,17 @@ public class PebbleLruCache implements PebbleCache<Object, PebbleTemplate> {
         cache = CacheBuilder.newBuilder()
             .initialCapacity(250)
             .maximumSize(maximumSize)
+            .recordStats()
             .build();
     }
 
+    /**
+     * Expose the hits, misses, evictions and size of the cache.
+     */
+    public void bindMetrics(MetricRegistry metricRegistry) {
+        metricRegistry.bind(new GuavaCacheMetrics<>(cache, MetricRegistry.CACHE_VARIABLES_TEMPLATE, Collections.emptyList()));
+    }
+
     @Override
     public PebbleTemplate computeIfAbsent(Object key, Function<? super Object, ? extends PebbleTemplate> mappingFunction) {
         try {
@@ -1,7 +1,11 @@
 package io.kestra.core.runners.pebble.filters;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.kestra.core.serializers.JacksonMapper;
 import io.pebbletemplates.pebble.error.PebbleException;
 import io.pebbletemplates.pebble.extension.Filter;
@@ -15,11 +19,20 @@ import net.thisptr.jackson.jq.Versions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 public class JqFilter implements Filter {
+    private static final int QUERY_CACHE_SIZE = 1000;
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
     private final Scope scope;
     private final List<String> argumentNames = new ArrayList<>();
 
+    // the same expressions are evaluated a lot (ex: in loops), so compiled queries are kept by expression
+    private final Cache<String, JsonQuery> queries = CacheBuilder.newBuilder()
+        .maximumSize(QUERY_CACHE_SIZE)
+        .build();
+
     public JqFilter() {
         scope = Scope.newEmptyScope();
         BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, scope);
@@ -43,17 +56,16 @@ public class JqFilter implements Filter {
 
         String pattern = (String) args.get("expression");
 
-        Scope rootScope = Scope.newEmptyScope();
-        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, rootScope);
         try {
-
-            JsonQuery q = JsonQuery.compile(pattern, Versions.JQ_1_6);
+            JsonQuery q = this.query(pattern);
 
             JsonNode in;
-            if (input instanceof String) {
-                in = JacksonMapper.ofJson().readTree((String) input);
+            if (input instanceof JsonNode jsonNode) {
+                in = jsonNode;
+            } else if (input instanceof String) {
+                in = MAPPER.readTree((String) input);
             } else {
-                in = JacksonMapper.ofJson().valueToTree(input);
+                in = MAPPER.valueToTree(input);
             }
 
             final List<Object> out = new ArrayList<>();
@@ -69,9 +81,9 @@ public class JqFilter implements Filter {
                     } else if (v instanceof BooleanNode) {
                         out.add(v.booleanValue());
                     } else if (v instanceof ObjectNode) {
-                        out.add(JacksonMapper.ofJson().convertValue(v, Map.class));
+                        out.add(MAPPER.convertValue(v, Map.class));
                     } else if (v instanceof ArrayNode) {
-                        out.add(JacksonMapper.ofJson().convertValue(v, List.class));
+                        out.add(MAPPER.convertValue(v, List.class));
                     } else {
                         out.add(v);
                     }
@@ -85,4 +97,12 @@ public class JqFilter implements Filter {
             throw new PebbleException(e, "Unable to parse jq value '" + input + "' with type '" + input.getClass().getName() + "'", lineNumber, self.getName());
         }
     }
+
+    private JsonQuery query(String pattern) throws Exception {
+        try {
+            return this.queries.get(pattern, () -> JsonQuery.compile(pattern, Versions.JQ_1_6));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
 }
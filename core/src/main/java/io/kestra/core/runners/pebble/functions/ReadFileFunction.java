@@ -1,5 +1,6 @@
 package io.kestra.core.runners.pebble.functions;
 
+import io.kestra.core.runners.Worker;
 import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.Slugify;
@@ -59,7 +60,7 @@ public class ReadFileFunction implements Function {
         }
         if ("STANDALONE".equals(serverType)) {
             // check that it's called inside a worker thread
-            return Thread.currentThread().getClass().getName().equals("io.kestra.core.runners.Worker$WorkerThread");
+            return Worker.WorkerTaskRunnable.isRunningOnCurrentThread();
         }
         return false;
     }
@@ -50,11 +50,16 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Slf4j
 @Singleton
 public abstract class AbstractScheduler implements Scheduler, Service {
+    // one turn of the timing wheel is an hour, the triggers due later wait in their slot for their turn
+    private static final int TIMING_WHEEL_SIZE = 3600;
+
     protected final ApplicationContext applicationContext;
     private final QueueInterface<Execution> executionQueue;
     private final QueueInterface<Trigger> triggerQueue;
@@ -81,6 +86,15 @@ public abstract class AbstractScheduler implements Scheduler, Service {
     @Getter
     private volatile Map<String, FlowWithPollingTriggerNextDate> schedulableNextDate = new ConcurrentHashMap<>();
 
+    // the polling triggers of the schedulable flows by trigger uid, only read and rebuilt by the scheduleExecutor thread when the flows change
+    private List<Flow> indexedFlows = Collections.emptyList();
+    private Map<String, FlowAndTrigger> indexedTriggers = Collections.emptyMap();
+
+    // the next evaluation dates of the triggers, so they are only read from the repository when one of them is due
+    private final TimingWheel timingWheel = new TimingWheel(TIMING_WHEEL_SIZE, Instant.now());
+    private final Duration maxPollInterval;
+    private Instant lastPoll;
+
     private final String id = IdUtils.create();
 
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
@@ -107,6 +121,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
         this.workerGroupService = applicationContext.getBean(WorkerGroupService.class);
         this.logService = applicationContext.getBean(LogService.class);
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
+        this.maxPollInterval = applicationContext.getProperty("kestra.scheduler.max-poll-interval", Duration.class).orElse(Duration.ofSeconds(5));
         setState(ServiceState.CREATED);
     }
 
@@ -153,6 +168,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                 triggersDeleted.forEach(abstractTrigger -> {
                     Trigger trigger = Trigger.of(flow, abstractTrigger);
                     this.triggerQueue.delete(trigger);
+                    this.timingWheel.remove(trigger.uid());
                 });
             }
             if (previous != null) {
@@ -162,7 +178,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                             RunContext runContext = runContextFactory.of(flow, abstractTrigger);
                             ConditionContext conditionContext = conditionService.conditionContext(runContext, flow, null);
                             try {
-                                this.triggerState.update(flow, abstractTrigger, conditionContext);
+                                this.scheduleEvaluation(this.triggerState.update(flow, abstractTrigger, conditionContext));
                             } catch (Exception e) {
                                 logError(conditionContext, flow, abstractTrigger, e);
                             }
@@ -192,7 +208,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                     this.handleEvaluatePollingTriggerResult(triggerExecution, nextExecutionDate);
                 } else {
                     ZonedDateTime nextExecutionDate = ((PollingTriggerInterface) workerTriggerResult.getTrigger()).nextEvaluationDate();
-                    this.triggerState.update(Trigger.of(workerTriggerResult.getTriggerContext(), nextExecutionDate));
+                    this.scheduleEvaluation(this.triggerState.update(Trigger.of(workerTriggerResult.getTriggerContext(), nextExecutionDate)));
                 }
             }
         );
@@ -203,15 +219,17 @@ public abstract class AbstractScheduler implements Scheduler, Service {
     // and if some flows were created outside the box, for example from the CLI,
     // then we may have some triggers that are not created yet.
     private void initializedTriggers(List<Flow> flows) {
-        record FlowAndTrigger(Flow flow, AbstractTrigger trigger) {}
-        List<Trigger> triggers = triggerState.findAllForAllTenants();
+        Map<String, Trigger> triggers = triggerState.findAllForAllTenants()
+            .stream()
+            .collect(Collectors.toMap(Trigger::uid, Function.identity(), (first, second) -> first));
+        triggers.values().forEach(this::scheduleEvaluation);
 
         flows
             .stream()
             .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
             .flatMap(flow -> flow.getTriggers().stream().filter(trigger -> trigger instanceof PollingTriggerInterface).map(trigger -> new FlowAndTrigger(flow, trigger)))
             .forEach(flowAndTrigger -> {
-                Optional<Trigger> trigger = triggers.stream().filter(t -> t.uid().equals(Trigger.uid(flowAndTrigger.flow(), flowAndTrigger.trigger()))).findFirst(); // must have one or none
+                Optional<Trigger> trigger = Optional.ofNullable(triggers.get(Trigger.uid(flowAndTrigger.flow(), flowAndTrigger.trigger()))); // must have one or none
                 if (trigger.isEmpty()) {
                     RunContext runContext = runContextFactory.of(flowAndTrigger.flow(), flowAndTrigger.trigger());
                     ConditionContext conditionContext = conditionService.conditionContext(runContext, flowAndTrigger.flow(), null);
@@ -229,6 +247,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                             .stopAfter(flowAndTrigger.trigger().getStopAfter())
                             .build();
                         this.triggerState.create(newTrigger);
+                        this.scheduleEvaluation(newTrigger);
                     } catch (Exception e) {
                         logError(conditionContext, flowAndTrigger.flow(), flowAndTrigger.trigger(), e);
                     }
@@ -241,11 +260,11 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                         ZonedDateTime previousDate = schedule.previousEvaluationDate(conditionContext);
                         if (previousDate.isAfter(trigger.get().getDate())) {
                             Trigger updated = trigger.get().toBuilder().nextExecutionDate(previousDate).build();
-                            this.triggerState.update(updated);
+                            this.scheduleEvaluation(this.triggerState.update(updated));
                         }
                     } else if (recoverMissedSchedules == Schedule.RecoverMissedSchedules.NONE ) {
                         Trigger updated = trigger.get().toBuilder().nextExecutionDate(schedule.nextEvaluationDate()).build();
-                        this.triggerState.update(updated);
+                        this.scheduleEvaluation(this.triggerState.update(updated));
                     }
                 }
             });
@@ -253,57 +272,102 @@ public abstract class AbstractScheduler implements Scheduler, Service {
         this.isReady = true;
     }
 
-    private List<FlowWithTriggers> computeSchedulable(List<Flow> flows, List<Trigger> triggerContextsToEvaluate, ScheduleContextInterface scheduleContext) {
-        List<String> flowToKeep = triggerContextsToEvaluate.stream().map(Trigger::getFlowId).toList();
+    /**
+     * Index the polling triggers of the schedulable flows by uid, only when the flows changed since the last call.
+     * The flow listeners return a copy of the flows, but the same instances for the flows that didn't change.
+     *
+     * @return true if the flows changed
+     */
+    private boolean index(List<Flow> flows) {
+        if (flows.size() == this.indexedFlows.size()) {
+            boolean same = true;
+            for (int i = 0; i < flows.size() && same; i++) {
+                same = flows.get(i) == this.indexedFlows.get(i);
+            }
+
+            if (same) {
+                return false;
+            }
+        }
 
-        return flows
+        Map<String, FlowAndTrigger> indexedTriggers = new HashMap<>();
+        flows
             .stream()
-            .filter(flow -> flowToKeep.contains(flow.getId()))
             .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
             .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
-            .flatMap(flow -> flow.getTriggers()
+            .forEach(flow -> flow.getTriggers()
                 .stream()
                 .filter(abstractTrigger -> !abstractTrigger.isDisabled() && abstractTrigger instanceof PollingTriggerInterface)
-                .map(abstractTrigger -> {
-                    RunContext runContext = runContextFactory.of(flow, abstractTrigger);
-                    ConditionContext conditionContext = conditionService.conditionContext(runContext, flow, null);
-                    Trigger triggerContext = null;
-                    Trigger lastTrigger = triggerContextsToEvaluate
-                        .stream()
-                        .filter(triggerContextToFind -> triggerContextToFind.uid().equals(Trigger.uid(flow, abstractTrigger)))
-                        .findFirst()
-                        .orElse(null);
-                    // If a trigger is not found in triggers to evaluate, then we ignore it
-                    if (lastTrigger == null) {
+                .forEach(abstractTrigger -> indexedTriggers.putIfAbsent(Trigger.uid(flow, abstractTrigger), new FlowAndTrigger(flow, abstractTrigger)))
+            );
+
+        this.indexedFlows = flows;
+        this.indexedTriggers = indexedTriggers;
+
+        return true;
+    }
+
+    private List<FlowWithTriggers> computeSchedulable(List<Trigger> triggerContextsToEvaluate, ScheduleContextInterface scheduleContext) {
+        return triggerContextsToEvaluate
+            .stream()
+            .map(lastTrigger -> {
+                FlowAndTrigger flowAndTrigger = this.indexedTriggers.get(lastTrigger.uid());
+                // If a trigger is not one of the schedulable flows, then we ignore it
+                if (flowAndTrigger == null) {
+                    return null;
+                }
+
+                Flow flow = flowAndTrigger.flow();
+                AbstractTrigger abstractTrigger = flowAndTrigger.trigger();
+                Trigger triggerContext;
+                // Backwards compatibility: we add a next execution date that we compute, this avoids re-triggering all existing triggers
+                if (lastTrigger.getNextExecutionDate() == null) {
+                    ConditionContext conditionContext = this.conditionContext(flow, abstractTrigger);
+                    try {
+                        triggerContext = lastTrigger.toBuilder()
+                            .nextExecutionDate(((PollingTriggerInterface) abstractTrigger).nextEvaluationDate(conditionContext, Optional.of(lastTrigger)))
+                            .build();
+                    } catch (Exception e) {
+                        logError(conditionContext, flow, abstractTrigger, e);
                         return null;
-                        // Backwards compatibility: we add a next execution date that we compute, this avoids re-triggering all existing triggers
-                    } else if (lastTrigger.getNextExecutionDate() == null) {
-                        try {
-                            triggerContext = lastTrigger.toBuilder()
-                                .nextExecutionDate(((PollingTriggerInterface) abstractTrigger).nextEvaluationDate(conditionContext, Optional.of(lastTrigger)))
-                                .build();
-                        } catch (Exception e) {
-                            logError(conditionContext, flow, abstractTrigger, e);
-                            return null;
-                        }
-                        this.triggerState.save(triggerContext, scheduleContext);
-                    } else {
-                        triggerContext = lastTrigger;
                     }
-                    return new FlowWithTriggers(
-                        flow,
-                        abstractTrigger,
-                        triggerContext,
-                        runContext,
-                        conditionContext.withVariables(
-                            ImmutableMap.of("trigger",
-                                ImmutableMap.of("date", triggerContext.getNextExecutionDate() != null ?
-                                    triggerContext.getNextExecutionDate() : now())
-                            ))
-                    );
-                })
+                    this.triggerState.save(triggerContext, scheduleContext);
+                    this.scheduleEvaluation(triggerContext);
+                } else {
+                    triggerContext = lastTrigger;
+                }
+
+                return new FlowWithTriggers(flow, abstractTrigger, triggerContext);
+            })
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private ConditionContext conditionContext(Flow flow, AbstractTrigger abstractTrigger) {
+        RunContext runContext = runContextFactory.of(flow, abstractTrigger);
+
+        return conditionService.conditionContext(runContext, flow, null);
+    }
+
+    // the contexts are costly to build, so they are only built for the triggers that are not running
+    private FlowWithPollingTrigger withConditionContext(FlowWithPollingTrigger f) {
+        ZonedDateTime date = f.getTriggerContext().getNextExecutionDate() != null ? f.getTriggerContext().getNextExecutionDate() : now();
+
+        return f.toBuilder()
+            .conditionContext(this.conditionContext(f.getFlow(), f.getAbstractTrigger())
+                .withVariables(ImmutableMap.of("trigger", ImmutableMap.of("date", date)))
             )
-            .filter(Objects::nonNull).toList();
+            .build();
+    }
+
+    /**
+     * Keep the next evaluation date of the trigger, so the triggers are read from the repository when it's due.
+     */
+    protected void scheduleEvaluation(Trigger trigger) {
+        this.timingWheel.schedule(
+            trigger.uid(),
+            trigger.getNextExecutionDate() != null ? trigger.getNextExecutionDate().toInstant() : null
+        );
     }
 
     abstract public void handleNext(List<Flow> flows, ZonedDateTime now, BiConsumer<List<Trigger>, ScheduleContextInterface> consumer);
@@ -315,8 +379,18 @@ public abstract class AbstractScheduler implements Scheduler, Service {
         }
 
         ZonedDateTime now = now();
+        List<Flow> flows = this.flowListeners.flows();
+        boolean flowsUpdated = this.index(flows);
+        Set<String> due = this.timingWheel.advance(now.toInstant());
 
-        this.handleNext(this.flowListeners.flows(), now, (triggers, scheduleContext) -> {
+        // the triggers updated by other servers, ex: a backfill from the UI, are only seen when the repository is read,
+        // so it's read at least at the max poll interval even if no trigger is due
+        if (due.isEmpty() && !flowsUpdated && this.lastPoll != null && this.lastPoll.plus(this.maxPollInterval).isAfter(now.toInstant())) {
+            return;
+        }
+        this.lastPoll = now.toInstant();
+
+        this.handleNext(flows, now, (triggers, scheduleContext) -> {
 
             if (triggers.isEmpty()) {
                 return;
@@ -327,7 +401,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                 .filter(trigger -> Boolean.FALSE.equals(trigger.getDisabled()))
                 .toList();
 
-            List<FlowWithTriggers> schedulable = this.computeSchedulable(flowListeners.flows(), triggerContextsToEvaluate, scheduleContext);
+            List<FlowWithTriggers> schedulable = this.computeSchedulable(triggerContextsToEvaluate, scheduleContext);
 
             metricRegistry
                 .counter(MetricRegistry.SCHEDULER_LOOP_COUNT)
@@ -338,7 +412,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                     "Scheduler next iteration for {} with {} schedulables of {} flows",
                     now,
                     schedulable.size(),
-                    this.flowListeners.flows().size()
+                    flows.size()
                 );
             }
 
@@ -349,11 +423,11 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                     .flow(flowWithTriggers.getFlow())
                     .abstractTrigger(flowWithTriggers.getAbstractTrigger())
                     .pollingTrigger((PollingTriggerInterface) flowWithTriggers.getAbstractTrigger())
-                    .conditionContext(flowWithTriggers.getConditionContext())
                     .triggerContext(flowWithTriggers.TriggerContext.toBuilder().date(now()).stopAfter(flowWithTriggers.getAbstractTrigger().getStopAfter()).build())
                     .build())
                 .filter(f -> f.getTriggerContext().getEvaluateRunningDate() == null)
                 .filter(this::isExecutionNotRunning)
+                .map(this::withConditionContext)
                 .map(FlowWithPollingTriggerNextDate::of)
                 .filter(Objects::nonNull)
                 .toList();
@@ -415,6 +489,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                                     );
                                     trigger = trigger.checkBackfill();
                                     this.triggerState.save(trigger, scheduleContext);
+                                    this.scheduleEvaluation(trigger);
                                 }
                             } else {
                                 logService.logTrigger(
@@ -433,6 +508,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
                             }
                             var trigger = f.getTriggerContext().toBuilder().nextExecutionDate(nextExecutionDate).build().checkBackfill();
                             this.triggerState.save(trigger, scheduleContext);
+                            this.scheduleEvaluation(trigger);
                         }
                     } catch (InternalException ie) {
                         // validate schedule condition can fail to render variables
@@ -494,6 +570,7 @@ public abstract class AbstractScheduler implements Scheduler, Service {
 
     protected void saveLastTriggerAndEmitExecution(Execution execution, Trigger trigger, Consumer<Trigger> saveAction) {
         saveAction.accept(trigger);
+        this.scheduleEvaluation(trigger);
 
         // we need to be sure that the tenantId is propagated from the trigger to the execution
         var newExecution = execution.withTenantId(trigger.getTenantId());
@@ -775,14 +852,14 @@ public abstract class AbstractScheduler implements Scheduler, Service {
         private final Flow flow;
         private final AbstractTrigger AbstractTrigger;
         private final Trigger TriggerContext;
-        private final RunContext runContext;
-        private final ConditionContext conditionContext;
 
         public String uid() {
             return Trigger.uid(flow, AbstractTrigger);
         }
     }
 
+    private record FlowAndTrigger(Flow flow, AbstractTrigger trigger) {}
+
     protected void setState(final ServiceState state) {
         this.state.set(state);
         eventPublisher.publishEvent(new ServiceStateChangeEvent(this));
@@ -62,7 +62,7 @@ public class DefaultScheduler extends AbstractScheduler {
                 Trigger trigger = Await.until(()  -> watchingTrigger.get(execution.getId()), Duration.ofSeconds(5));
                 var flow = flowRepository.findById(execution.getTenantId(), execution.getNamespace(), execution.getFlowId()).orElse(null);
                 if (execution.isDeleted() || conditionService.isTerminatedWithListeners(flow, execution)) {
-                    triggerState.update(trigger.resetExecution(execution.getState().getCurrent()));
+                    this.scheduleEvaluation(triggerState.update(trigger.resetExecution(execution.getState().getCurrent())));
                     watchingTrigger.remove(execution.getId());
                 } else {
                     triggerState.update(Trigger.of(execution, trigger));
@@ -0,0 +1,32 @@
+package io.kestra.core.schedulers;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.Trigger;
+import io.kestra.core.models.triggers.types.ScheduleTimeline;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+
+/**
+ * The timelines of the valid dates of the Schedule triggers, kept by the scheduler across evaluations as the trigger
+ * instances are created again on each evaluation with the flow defaults.
+ * A timeline is keyed by the trigger uid and the flow revision, so it's discarded when the flow is updated, and the
+ * ones not used anymore expire.
+ */
+@Singleton
+public class ScheduleTimelineCache {
+    private final Cache<String, ScheduleTimeline> timelines = CacheBuilder.newBuilder()
+        .maximumSize(10000)
+        .expireAfterAccess(Duration.ofDays(1))
+        .build();
+
+    public ScheduleTimeline get(Flow flow, AbstractTrigger trigger) {
+        String key = IdUtils.fromParts(Trigger.uid(flow, trigger), String.valueOf(flow.getRevision()));
+
+        return this.timelines.asMap().computeIfAbsent(key, k -> new ScheduleTimeline());
+    }
+}
@@ -0,0 +1,102 @@
+package io.kestra.core.schedulers;
+
+import jakarta.annotation.Nullable;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * A hashed timing wheel of the next evaluation dates of the triggers, keyed by trigger uid.
+ * The wheel has a slot by second and a trigger is kept in the slot of its due second modulo the wheel size, so
+ * scheduling a trigger and advancing the wheel by a second don't depend on the number of triggers. The triggers due in
+ * more than a turn of the wheel stay in their slot until their turn comes.
+ */
+final class TimingWheel {
+    private final List<Set<String>> slots;
+    private final Map<String, Long> deadlines = new HashMap<>();
+    // the triggers scheduled at a second already passed, due on the next advance
+    private final Set<String> overdue = new HashSet<>();
+    private long current;
+
+    TimingWheel(int size, Instant start) {
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.slots.add(new HashSet<>());
+        }
+
+        this.current = start.getEpochSecond();
+    }
+
+    /**
+     * Schedule the trigger at the date, in place of its previous date.
+     *
+     * @param date the next evaluation date, a trigger without date is due now
+     */
+    synchronized void schedule(String uid, @Nullable Instant date) {
+        this.remove(uid);
+
+        // a trigger is ready when its date is strictly before the current second
+        long deadline = date == null ? this.current : date.getEpochSecond() + 1;
+        this.deadlines.put(uid, deadline);
+
+        if (deadline <= this.current) {
+            this.overdue.add(uid);
+        } else {
+            this.slot(deadline).add(uid);
+        }
+    }
+
+    synchronized void remove(String uid) {
+        Long deadline = this.deadlines.remove(uid);
+
+        if (deadline != null) {
+            if (deadline <= this.current) {
+                this.overdue.remove(uid);
+            } else {
+                this.slot(deadline).remove(uid);
+            }
+        }
+    }
+
+    /**
+     * Advance the wheel up to the date.
+     *
+     * @return the uid of the triggers due since the previous advance, they are removed from the wheel
+     */
+    synchronized Set<String> advance(Instant date) {
+        long target = date.getEpochSecond();
+        Set<String> due = new HashSet<>(this.overdue);
+        this.overdue.clear();
+
+        if (target > this.current) {
+            // after a full turn, all the slots were looked at
+            long last = this.current + Math.min(target - this.current, this.slots.size());
+
+            for (long second = this.current + 1; second <= last; second++) {
+                Iterator<String> iterator = this.slot(second).iterator();
+                while (iterator.hasNext()) {
+                    String uid = iterator.next();
+
+                    if (this.deadlines.get(uid) <= target) {
+                        iterator.remove();
+                        due.add(uid);
+                    }
+                }
+            }
+
+            this.current = target;
+        }
+
+        due.forEach(this.deadlines::remove);
+
+        return due;
+    }
+
+    synchronized int size() {
+        return this.deadlines.size();
+    }
+
+    private Set<String> slot(long second) {
+        return this.slots.get(Math.floorMod(second, this.slots.size()));
+    }
+}
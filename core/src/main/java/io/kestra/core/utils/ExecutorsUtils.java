@@ -3,6 +3,8 @@ package io.kestra.core.utils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.*;
 
 import jakarta.inject.Inject;
@@ -71,6 +73,30 @@ public class ExecutorsUtils {
         );
     }
 
+    /**
+     * Create an executor starting a new virtual thread for each task.
+     * Virtual threads are looked up by reflection as we still target Java 17,
+     * so this will be empty if the current runtime doesn't support them.
+     */
+    public Optional<ExecutorService> virtualThreadPerTaskExecutor(String name) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "_", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            return Optional.of(this.wrap(
+                name,
+                (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory)
+            ));
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
     private ExecutorService wrap(String name, ExecutorService executorService) {
         return ExecutorServiceMetrics.monitor(
             meterRegistry,
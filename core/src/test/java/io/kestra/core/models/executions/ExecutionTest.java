@@ -10,7 +10,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 class ExecutionTest {
     private static final TaskRun.TaskRunBuilder TASK_RUN = TaskRun.builder()
@@ -161,4 +163,53 @@ class ExecutionTest {
         assertThat(execution.getLabels().size(), is(1));
         assertThat(execution.getLabels().get(0), is(new Label("test", "test-value")));
     }
+
+    @Test
+    void taskRunLookup() throws Exception {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").value("a").state(new State()).build();
+        TaskRun child = TaskRun.builder().id("child").taskId("sub").parentTaskRunId("parent").value("b").state(new State()).build();
+        TaskRun leaf = TaskRun.builder().id("leaf").taskId("log").parentTaskRunId("child").state(new State()).build();
+        TaskRun other = TaskRun.builder().id("other").taskId("log").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .state(new State())
+            .taskRunList(List.of(parent, child, leaf, other))
+            .build();
+
+        assertThat(execution.findTaskRunByTaskRunId("leaf"), is(leaf));
+        assertThat(execution.findTaskRunsByTaskId("log"), contains(leaf, other));
+        assertThat(execution.findParents(leaf), contains(parent, child));
+        assertThat(execution.findParentsValues(leaf, true), contains("a", "b"));
+
+        TaskRun updated = child.withState(State.Type.RUNNING);
+        Execution next = execution.withTaskRun(updated);
+
+        assertThat(next.getTaskRunList().get(1), is(updated));
+        assertThat(next.findTaskRunByTaskRunId("child"), is(updated));
+        assertThat(next.findParents(leaf), contains(parent, updated));
+        assertThat(execution.findParents(leaf), contains(parent, child));
+    }
+
+    @Test
+    void outputsByTaskId() {
+        TaskRun parentA = TaskRun.builder().id("parentA").taskId("each").value("a").state(new State()).build();
+        TaskRun parentB = TaskRun.builder().id("parentB").taskId("each").value("b").state(new State()).build();
+        TaskRun childA = TaskRun.builder().id("childA").taskId("return").parentTaskRunId("parentA").outputs(Map.of("value", "1")).state(new State()).build();
+        TaskRun childB = TaskRun.builder().id("childB").taskId("return").parentTaskRunId("parentB").outputs(Map.of("value", "2")).state(new State()).build();
+        TaskRun other = TaskRun.builder().id("other").taskId("log").outputs(Map.of("value", "3")).state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .state(new State())
+            .taskRunList(List.of(parentA, childA, parentB, childB, other))
+            .build();
+
+        Map<String, Object> outputs = execution.outputs();
+
+        assertThat(execution.outputsTaskIds(), contains("return", "log"));
+        assertThat(execution.outputs("return"), is(outputs.get("return")));
+        assertThat(execution.outputs("log"), is(outputs.get("log")));
+        assertThat(execution.outputs("each"), is(nullValue()));
+    }
 }
@@ -0,0 +1,101 @@
+package io.kestra.core.models.triggers.types;
+
+import com.cronutils.model.time.ExecutionTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class ScheduleTimelineTest {
+    private static final ExecutionTime EVERY_DAY = ExecutionTime.forCron(Schedule.CRON_PARSER.parse("0 12 * * *"));
+
+    @Test
+    void nextAndPrevious() throws Exception {
+        ScheduleTimeline timeline = new ScheduleTimeline();
+        AtomicInteger evaluated = new AtomicInteger();
+        ScheduleTimeline.Validator mondays = date -> {
+            evaluated.incrementAndGet();
+            return date.getDayOfWeek() == DayOfWeek.MONDAY;
+        };
+
+        ZonedDateTime date = ZonedDateTime.parse("2021-08-02T12:00:00+02:00[Europe/Paris]");
+
+        assertThat(timeline.next(EVERY_DAY, date, mondays), is(Optional.of(date.plusWeeks(1))));
+        assertThat(evaluated.get(), is(7));
+
+        // the occurrences already evaluated are not evaluated again
+        assertThat(timeline.next(EVERY_DAY, date.plusDays(2), mondays), is(Optional.of(date.plusWeeks(1))));
+        assertThat(evaluated.get(), is(7));
+
+        assertThat(timeline.previous(EVERY_DAY, date.plusWeeks(1), mondays), is(Optional.of(date)));
+        assertThat(evaluated.get(), is(8));
+
+        assertThat(timeline.next(EVERY_DAY, date.plusWeeks(1), mondays), is(Optional.of(date.plusWeeks(2))));
+        assertThat(evaluated.get(), is(15));
+
+        assertThat(timeline.previous(EVERY_DAY, date.plusWeeks(2), mondays), is(Optional.of(date.plusWeeks(1))));
+        assertThat(evaluated.get(), is(15));
+    }
+
+    @Test
+    void pruned() throws Exception {
+        ScheduleTimeline timeline = new ScheduleTimeline();
+        AtomicInteger evaluated = new AtomicInteger();
+        ScheduleTimeline.Validator all = date -> {
+            evaluated.incrementAndGet();
+            return true;
+        };
+
+        ZonedDateTime date = ZonedDateTime.parse("2021-08-02T12:00:00+02:00[Europe/Paris]");
+
+        for (int i = 0; i < 30; i++) {
+            assertThat(timeline.next(EVERY_DAY, date.plusDays(i), all), is(Optional.of(date.plusDays(i + 1))));
+            assertThat(timeline.size(), lessThanOrEqualTo(3));
+        }
+
+        // the valid occurrence just before the last lookup is kept
+        int count = evaluated.get();
+        assertThat(timeline.previous(EVERY_DAY, date.plusDays(29), all), is(Optional.of(date.plusDays(28))));
+        assertThat(evaluated.get(), is(count));
+    }
+
+    @Test
+    void otherZone() throws Exception {
+        ScheduleTimeline timeline = new ScheduleTimeline();
+        ScheduleTimeline.Validator all = date -> true;
+
+        ZonedDateTime date = ZonedDateTime.parse("2021-08-02T00:00:00+02:00[Europe/Paris]");
+
+        assertThat(timeline.next(EVERY_DAY, date, all), is(Optional.of(ZonedDateTime.parse("2021-08-02T12:00:00+02:00[Europe/Paris]"))));
+        assertThat(
+            timeline.next(EVERY_DAY, date.withZoneSameInstant(ZoneId.of("UTC")), all),
+            is(Optional.of(ZonedDateTime.parse("2021-08-02T12:00:00Z[UTC]")))
+        );
+    }
+
+    @Test
+    void never() throws Exception {
+        ScheduleTimeline timeline = new ScheduleTimeline();
+        AtomicInteger evaluated = new AtomicInteger();
+        ScheduleTimeline.Validator none = date -> {
+            evaluated.incrementAndGet();
+            return false;
+        };
+
+        ZonedDateTime date = ZonedDateTime.now();
+
+        assertThat(timeline.next(EVERY_DAY, date, none).isPresent(), is(false));
+        int count = evaluated.get();
+
+        // the whole range up to the limit is known to be invalid
+        assertThat(timeline.next(EVERY_DAY, date.plusDays(10), none).isPresent(), is(false));
+        assertThat(evaluated.get(), is(count));
+    }
+}
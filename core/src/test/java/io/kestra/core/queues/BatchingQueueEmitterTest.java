@@ -0,0 +1,77 @@
+package io.kestra.core.queues;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchingQueueEmitterTest {
+    @Test
+    void submit() throws Exception {
+        List<List<String>> sent = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try (BatchingQueueEmitter<String> emitter = emitter(sent::add, executorService)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(emitter.submit("message-" + i));
+            }
+
+            for (CompletableFuture<Void> future : futures) {
+                future.get();
+            }
+
+            // sent in batches, and each future is only completed once its message is sent
+            assertThat(sent.stream().mapToInt(List::size).sum(), is(5));
+            assertThat(sent.size(), lessThan(5));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void submitFailed() {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try (BatchingQueueEmitter<String> emitter = emitter(
+            messages -> {
+                if (messages.contains("invalid")) {
+                    throw new QueueException("Unable to send", null);
+                }
+            },
+            executorService
+        )) {
+            CompletableFuture<Void> valid = emitter.submit("valid");
+            CompletableFuture<Void> invalid = emitter.submit("invalid");
+
+            // the batch fails, so the messages are sent one by one and only the invalid one fails
+            ExecutionException exception = assertThrows(ExecutionException.class, invalid::get);
+            assertThat(exception.getCause(), instanceOf(QueueException.class));
+            assertThat(valid.isCompletedExceptionally(), is(false));
+            assertThat(valid.join(), nullValue());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static BatchingQueueEmitter<String> emitter(BatchingQueueEmitter.Sender<String> sender, ExecutorService executorService) {
+        return BatchingQueueEmitter.<String>builder()
+            .name("test")
+            .sender(sender)
+            .executorService(executorService)
+            .bufferSize(100)
+            .batchSize(10)
+            .flushInterval(Duration.ofMillis(200))
+            .build();
+    }
+}
@@ -156,6 +156,32 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal(), is(28L));
     }
 
+    @Test
+    protected void findAfter() {
+        inject();
+
+        List<String> ids = new ArrayList<>();
+        String afterId = null;
+        List<Execution> page;
+        do {
+            page = executionRepository.findAfter(afterId, 10, null, null, null, null, null, null, null, null, null, null);
+            page.forEach(execution -> ids.add(execution.getId()));
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (!page.isEmpty());
+
+        assertThat(ids.size(), is(28));
+        assertThat(ids, is(ids.stream().sorted().toList()));
+
+        // the next pages are not shifted by the deleted executions
+        List<Execution> first = executionRepository.findAfter(null, 10, null, null, null, null, null, null, List.of(State.Type.SUCCESS), null, null, null);
+        assertThat(executionRepository.delete(first).size(), is(10));
+
+        List<Execution> second = executionRepository.findAfter(first.get(9).getId(), 10, null, null, null, null, null, null, List.of(State.Type.SUCCESS), null, null, null);
+        assertThat(second.size(), is(10));
+        assertThat(executionRepository.findById(null, first.get(0).getId()).isPresent(), is(false));
+        assertThat(executionRepository.findAfter(null, 100, null, null, null, null, null, null, List.of(State.Type.SUCCESS), null, null, null).size(), is(10));
+    }
+
     @Test
     protected void findTriggerExecutionId() {
         String executionTriggerId = IdUtils.create();
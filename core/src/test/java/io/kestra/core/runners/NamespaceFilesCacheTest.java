@@ -0,0 +1,123 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.StorageContext;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest
+@Property(name = "kestra.tasks.namespace-files.cache.hard-link", value = StringUtils.TRUE)
+@Property(name = "kestra.tasks.namespace-files.cache.max-size", value = "10")
+class NamespaceFilesCacheTest {
+    @Inject
+    NamespaceFilesCache namespaceFilesCache;
+
+    @Test
+    void hardLink() throws Exception {
+        Path basePath = Files.createTempDirectory("unit");
+        URI uri = uri();
+        AtomicInteger downloads = new AtomicInteger();
+        FileAttributes attributes = attributes(6);
+
+        copy(uri, attributes, "123456", downloads, basePath.resolve("0.sql"));
+        copy(uri, attributes, "123456", downloads, basePath.resolve("1.sql"));
+
+        assertThat(downloads.get(), is(1));
+        assertThat(Files.isSameFile(basePath.resolve("0.sql"), basePath.resolve("1.sql")), is(true));
+        assertThat(Files.readString(basePath.resolve("1.sql")), is("123456"));
+
+        // shared by the tasks, so read-only
+        assertThat(Files.getPosixFilePermissions(basePath.resolve("0.sql")), not(hasItem(PosixFilePermission.OWNER_WRITE)));
+
+        // modified anyway, the next task downloads it again
+        assertThat(basePath.resolve("0.sql").toFile().setWritable(true), is(true));
+        Files.writeString(basePath.resolve("0.sql"), "1");
+
+        copy(uri, attributes, "123456", downloads, basePath.resolve("2.sql"));
+
+        assertThat(downloads.get(), is(2));
+        assertThat(Files.readString(basePath.resolve("2.sql")), is("123456"));
+        assertThat(Files.isSameFile(basePath.resolve("0.sql"), basePath.resolve("2.sql")), is(false));
+    }
+
+    @Test
+    void eviction() throws Exception {
+        Path basePath = Files.createTempDirectory("unit");
+        URI first = uri();
+        URI second = uri();
+        AtomicInteger downloads = new AtomicInteger();
+        FileAttributes attributes = attributes(6);
+
+        copy(first, attributes, "123456", downloads, basePath.resolve("0.sql"));
+        copy(second, attributes, "654321", downloads, basePath.resolve("1.sql"));
+        assertThat(downloads.get(), is(2));
+
+        // above the maximum size, the least recently used file was removed
+        copy(second, attributes, "654321", downloads, basePath.resolve("2.sql"));
+        assertThat(downloads.get(), is(2));
+
+        copy(first, attributes, "123456", downloads, basePath.resolve("3.sql"));
+        assertThat(downloads.get(), is(3));
+        assertThat(Files.readString(basePath.resolve("3.sql")), is("123456"));
+
+        // the files linked before the eviction are still there
+        assertThat(Files.readString(basePath.resolve("0.sql")), is("123456"));
+    }
+
+    private void copy(URI uri, FileAttributes attributes, String content, AtomicInteger downloads, Path destination) throws Exception {
+        namespaceFilesCache.copy(null, uri, attributes, () -> {
+            downloads.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, destination);
+    }
+
+    private static URI uri() {
+        return URI.create(StorageContext.namespaceFilePrefix("io.kestra." + IdUtils.create()) + "/1.sql");
+    }
+
+    private static FileAttributes attributes(long size) {
+        long lastModifiedTime = System.currentTimeMillis() - Duration.ofMinutes(1).toMillis();
+
+        return new FileAttributes() {
+            @Override
+            public String getFileName() {
+                return "1.sql";
+            }
+
+            @Override
+            public long getLastModifiedTime() {
+                return lastModifiedTime;
+            }
+
+            @Override
+            public long getCreationTime() {
+                return lastModifiedTime;
+            }
+
+            @Override
+            public FileType getType() {
+                return FileType.File;
+            }
+
+            @Override
+            public long getSize() {
+                return size;
+            }
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package io.kestra.core.runners;
 
 import io.kestra.core.models.tasks.NamespaceFiles;
+import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.IdUtils;
@@ -16,7 +17,9 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -30,6 +33,9 @@ class NamespaceFilesServiceTest {
     @Inject
     NamespaceFilesService namespaceFilesService;
 
+    @Inject
+    NamespaceFilesCache namespaceFilesCache;
+
     @Inject
     RunContextFactory runContextFactory;
 
@@ -184,6 +190,66 @@ class NamespaceFilesServiceTest {
         assertThat(injected.size(), is(0));
     }
 
+    @Test
+    public void cache() throws Exception {
+        Path basePath = Files.createTempDirectory("unit");
+        URI uri = URI.create(StorageContext.namespaceFilePrefix("io.kestra." + IdUtils.create()) + "/1.sql");
+        AtomicInteger downloads = new AtomicInteger();
+        FileAttributes attributes = attributes(1, System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+
+        for (int i = 0; i < 2; i++) {
+            namespaceFilesCache.copy(null, uri, attributes, () -> {
+                downloads.incrementAndGet();
+                return new ByteArrayInputStream("1".getBytes());
+            }, basePath.resolve(i + ".sql"));
+        }
+
+        assertThat(downloads.get(), is(1));
+        assertThat(Files.readString(basePath.resolve("0.sql")), is("1"));
+        assertThat(Files.readString(basePath.resolve("1.sql")), is("1"));
+
+        // a recently modified file is never cached
+        attributes = attributes(1, System.currentTimeMillis());
+        for (int i = 0; i < 2; i++) {
+            namespaceFilesCache.copy(null, uri, attributes, () -> {
+                downloads.incrementAndGet();
+                return new ByteArrayInputStream("2".getBytes());
+            }, basePath.resolve(i + ".sql"));
+        }
+
+        assertThat(downloads.get(), is(3));
+        assertThat(Files.readString(basePath.resolve("1.sql")), is("2"));
+    }
+
+    private static FileAttributes attributes(long size, long lastModifiedTime) {
+        return new FileAttributes() {
+            @Override
+            public String getFileName() {
+                return "1.sql";
+            }
+
+            @Override
+            public long getLastModifiedTime() {
+                return lastModifiedTime;
+            }
+
+            @Override
+            public long getCreationTime() {
+                return lastModifiedTime;
+            }
+
+            @Override
+            public FileType getType() {
+                return FileType.File;
+            }
+
+            @Override
+            public long getSize() {
+                return size;
+            }
+        };
+    }
+
     private void put(@Nullable String tenantId, String namespace, String path, String content) throws IOException {
         storageInterface.put(
             tenantId,
@@ -0,0 +1,43 @@
+package io.kestra.core.runners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+class OutputsReferencesTest {
+    @Test
+    void referenced() {
+        Optional<Set<String>> references = OutputsReferences.of(
+            Map.of(
+                "format", "{{ outputs.first.value }} and {{ outputs['second-task'].uri }}",
+                "list", List.of("{% for item in outputs.third.values %}{{ item }}{% endfor %}", "{{ parent.outputs.value }}")
+            ),
+            Map.of("var", "{{ outputs . fourth }}")
+        );
+
+        assertThat(references.isPresent(), is(true));
+        assertThat(references.get(), containsInAnyOrder("first", "second-task", "third", "fourth"));
+    }
+
+    @Test
+    void notReferenced() {
+        Optional<Set<String>> references = OutputsReferences.of(Map.of("message", "{{ inputs.outputs }} outputs"), null);
+
+        assertThat(references.isPresent(), is(true));
+        assertThat(references.get().isEmpty(), is(true));
+    }
+
+    @Test
+    void dynamic() {
+        assertThat(OutputsReferences.of("{{ outputs[taskrun.value].value }}").isPresent(), is(false));
+        assertThat(OutputsReferences.of("{{ outputs | json }}").isPresent(), is(false));
+        assertThat(OutputsReferences.of("{{ render(vars.template) }}").isPresent(), is(false));
+    }
+}
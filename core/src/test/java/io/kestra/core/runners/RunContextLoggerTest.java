@@ -63,6 +63,61 @@ class RunContextLoggerTest {
         assertThat(matchingLog.stream().filter(logEntry -> logEntry.getLevel().equals(Level.ERROR)).findFirst().orElse(null).getMessage(), is("error"));
     }
 
+    @Test
+    void level() {
+        List<LogEntry> logs = new CopyOnWriteArrayList<>();
+        List<LogEntry> matchingLog;
+        logQueue.receive(either -> logs.add(either.getLeft()));
+
+        Flow flow = TestsUtils.mockFlow();
+        Execution execution = TestsUtils.mockExecution(flow, Map.of());
+
+        RunContextLogger runContextLogger = new RunContextLogger(
+            logQueue,
+            LogEntry.of(execution),
+            Level.INFO
+        );
+
+        Logger logger = runContextLogger.logger();
+        assertThat(logger.isDebugEnabled(), is(false));
+        assertThat(logger.isInfoEnabled(), is(true));
+        assertThat(runContextLogger.logger(), sameInstance(logger));
+
+        logger.debug("debug");
+        logger.info("info {}", "value");
+        logger.warn("warn", new Exception("exception"));
+
+        matchingLog = TestsUtils.awaitLogs(logs, 3);
+        assertThat(matchingLog.stream().filter(logEntry -> logEntry.getLevel().equals(Level.DEBUG)).count(), is(0L));
+        assertThat(matchingLog.stream().filter(logEntry -> logEntry.getLevel().equals(Level.INFO)).findFirst().orElseThrow().getMessage(), is("info value"));
+        assertThat(matchingLog.stream().filter(logEntry -> logEntry.getLevel().equals(Level.WARN)).findFirst().orElseThrow().getMessage(), is("warn"));
+    }
+
+    @Test
+    void defaultLevel() {
+        List<LogEntry> logs = new CopyOnWriteArrayList<>();
+        logQueue.receive(either -> logs.add(either.getLeft()));
+
+        Flow flow = TestsUtils.mockFlow();
+        Execution execution = TestsUtils.mockExecution(flow, Map.of());
+
+        RunContextLogger runContextLogger = new RunContextLogger(
+            logQueue,
+            LogEntry.of(execution),
+            null
+        );
+
+        Logger logger = runContextLogger.logger();
+        assertThat(logger.isTraceEnabled(), is(true));
+
+        logger.trace("trace");
+
+        LogEntry matchingLog = TestsUtils.awaitLog(logs, logEntry -> execution.getId().equals(logEntry.getExecutionId()));
+        assertThat(matchingLog, notNullValue());
+        assertThat(matchingLog.getLevel(), is(Level.TRACE));
+        assertThat(matchingLog.getMessage(), is("trace"));
+    }
+
     @Test
     void emptyLogMessage() {
         List<LogEntry> logs = new CopyOnWriteArrayList<>();
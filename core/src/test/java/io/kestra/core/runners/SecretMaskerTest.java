@@ -0,0 +1,41 @@
+package io.kestra.core.runners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class SecretMaskerTest {
+    @Test
+    void mask() {
+        SecretMasker secretMasker = SecretMasker.of(List.of("doe.com", "myawesomepass", "he", "she", "hers"));
+
+        assertThat(secretMasker.mask("john@doe.com"), is("john@*******"));
+        assertThat(
+            secretMasker.mask("test myawesomepassmyawesomepass myawesomepass myawesomepassmyawesomepass"),
+            is("test **masked****************** ************* **************************")
+        );
+        assertThat(secretMasker.mask("ushers"), is("u*****"));
+    }
+
+    @Test
+    void overlapping() {
+        assertThat(SecretMasker.of(List.of("password123", "word")).mask("my password123 here"), is("my **masked*** here"));
+        assertThat(SecretMasker.of(List.of("abcd", "bc")).mask("xabcdx"), is("x****x"));
+        assertThat(SecretMasker.of(List.of("abc", "b")).mask("xabcx"), is("x***x"));
+        assertThat(SecretMasker.of(List.of("abc", "bcd")).mask("xabcdx"), is("x****x"));
+    }
+
+    @Test
+    void noMatch() {
+        SecretMasker secretMasker = SecretMasker.of(List.of("secret", ""));
+        String data = "nothing to mask";
+
+        assertThat(secretMasker.mask(data), sameInstance(data));
+        assertThat(SecretMasker.EMPTY.isEmpty(), is(true));
+        assertThat(SecretMasker.of(List.of("")).isEmpty(), is(true));
+    }
+}
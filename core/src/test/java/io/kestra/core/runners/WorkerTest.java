@@ -12,13 +12,16 @@ import io.kestra.core.models.tasks.ResolvedTask;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.services.WorkerGroupService;
 import io.kestra.core.tasks.flows.Pause;
 import io.kestra.core.tasks.flows.WorkingDirectory;
 import io.kestra.core.tasks.test.Sleep;
 import io.kestra.core.utils.Await;
+import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -140,10 +143,29 @@ class WorkerTest {
 
     @Test
     void killed() throws InterruptedException, TimeoutException {
+        this.killed(applicationContext.createBean(Worker.class, IdUtils.create(), 8, null));
+    }
+
+    @Test
+    void killedPooled() throws InterruptedException, TimeoutException {
+        Worker worker = new Worker(
+            IdUtils.create(),
+            8,
+            null,
+            applicationContext.getBean(ApplicationEventPublisher.class),
+            applicationContext.getBean(WorkerGroupService.class),
+            applicationContext.getBean(ExecutorsUtils.class),
+            Worker.ThreadMode.POOLED
+        );
+        applicationContext.inject(worker);
+
+        this.killed(worker);
+    }
+
+    private void killed(Worker worker) throws InterruptedException, TimeoutException {
         List<LogEntry> logs = new CopyOnWriteArrayList<>();
         workerTaskLogQueue.receive(either -> logs.add(either.getLeft()));
 
-        Worker worker = applicationContext.createBean(Worker.class, IdUtils.create(), 8, null);
         worker.run();
 
         List<WorkerTaskResult> workerTaskResult = new ArrayList<>();
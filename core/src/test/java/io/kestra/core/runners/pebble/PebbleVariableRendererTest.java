@@ -4,8 +4,11 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.Rethrow;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +27,9 @@ class PebbleVariableRendererTest {
     @Inject
     VariableRenderer variableRenderer;
 
+    @Inject
+    MeterRegistry meterRegistry;
+
     @Test
     void out() throws IllegalVariableEvaluationException {
         Map<String, Object> in = Map.of(
@@ -236,6 +242,47 @@ class PebbleVariableRendererTest {
         assertThat(render, is("See some code {{ var }} and some other code {{ var2 }}"));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void staticSubtreesMutable() throws IllegalVariableEvaluationException {
+        Map<String, Object> headers = Map.of("Content-Type", "application/json", "Accept", List.of("a", "b"));
+        Map<String, Object> in = Map.of("headers", headers);
+
+        // the static subtrees are rendered as new mutable maps and lists, like the others
+        Map<String, Object> renderedHeaders = (Map<String, Object>) variableRenderer.render(in, Map.of()).get("headers");
+        assertThat(renderedHeaders, is(headers));
+        assertThat(renderedHeaders, not(sameInstance(headers)));
+
+        renderedHeaders.put("Content-Type", "text/plain");
+        ((List<Object>) renderedHeaders.get("Accept")).add("c");
+
+        assertThat(headers.get("Content-Type"), is("application/json"));
+        assertThat(((Map<String, Object>) variableRenderer.render(in, Map.of()).get("headers")).get("Accept"), is(List.of("a", "b")));
+    }
+
+    @Test
+    void rawCached() throws IllegalVariableEvaluationException {
+        ImmutableMap<String, Object> vars = ImmutableMap.of(
+            "var", "1"
+        );
+
+        String template = "{{ var }} and some code {% raw %}{{ var }}{% endraw %} " + IdUtils.create();
+
+        assertThat(variableRenderer.render(template, vars), startsWith("1 and some code {{ var }}"));
+        double hits = templateCacheHits();
+
+        assertThat(variableRenderer.render(template, vars), startsWith("1 and some code {{ var }}"));
+        assertThat(templateCacheHits(), greaterThan(hits));
+    }
+
+    private double templateCacheHits() {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", MetricRegistry.CACHE_VARIABLES_TEMPLATE)
+            .tag("result", "hit")
+            .functionCounter()
+            .count();
+    }
+
     @Test
     void eval() throws IllegalVariableEvaluationException {
         ImmutableMap<String, Object> vars = ImmutableMap.of(
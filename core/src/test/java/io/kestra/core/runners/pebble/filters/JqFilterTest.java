@@ -3,6 +3,7 @@ package io.kestra.core.runners.pebble.filters;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.serializers.JacksonMapper;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.Test;
@@ -144,4 +145,15 @@ class JqFilterTest {
         render = variableRenderer.render("{% set array = vars | jq(\".array\") %}{{array[0][0]}}", vars);
         assertThat(render, is("arrayValue"));
     }
+
+    @Test
+    void jsonNodeAndRepeated() throws IllegalVariableEvaluationException {
+        Map<String, Object> vars = Map.of(
+            "node", JacksonMapper.ofJson().createObjectNode().put("key", "value")
+        );
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(variableRenderer.render("{{ node | jq(\".key\") | first }}", vars), is("value"));
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package io.kestra.core.schedulers;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.triggers.types.Schedule;
+import io.kestra.core.models.triggers.types.ScheduleTimeline;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ScheduleTimelineCacheTest {
+    @Test
+    void byRevision() {
+        ScheduleTimelineCache cache = new ScheduleTimelineCache();
+        Flow flow = Flow.builder().namespace("io.kestra.unittest").id("schedule").revision(1).build();
+
+        ScheduleTimeline timeline = cache.get(flow, schedule());
+
+        // the triggers are created again on each evaluation
+        assertThat(cache.get(flow, schedule()), sameInstance(timeline));
+        assertThat(cache.get(flow.toBuilder().revision(2).build(), schedule()), not(sameInstance(timeline)));
+    }
+
+    private static Schedule schedule() {
+        return Schedule.builder().id("daily").type(Schedule.class.getName()).cron("0 12 * * *").build();
+    }
+}
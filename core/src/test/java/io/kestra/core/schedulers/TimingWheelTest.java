@@ -0,0 +1,66 @@
+package io.kestra.core.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class TimingWheelTest {
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void advance() {
+        TimingWheel wheel = new TimingWheel(60, START);
+
+        wheel.schedule("now", null);
+        wheel.schedule("past", START.minusSeconds(10));
+        wheel.schedule("soon", START.plusMillis(1500));
+        wheel.schedule("later", START.plusSeconds(5));
+        assertThat(wheel.size(), is(4));
+
+        assertThat(wheel.advance(START), containsInAnyOrder("now", "past"));
+
+        // ready when its date is strictly before the second
+        assertThat(wheel.advance(START.plusSeconds(1)), empty());
+        assertThat(wheel.advance(START.plusSeconds(2)), contains("soon"));
+        assertThat(wheel.advance(START.plusSeconds(5)), empty());
+        assertThat(wheel.advance(START.plusSeconds(6)), contains("later"));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    void moreThanATurn() {
+        TimingWheel wheel = new TimingWheel(60, START);
+
+        wheel.schedule("nextTurn", START.plusSeconds(90));
+        wheel.schedule("thisTurn", START.plusSeconds(30));
+
+        // same slot, but only the trigger of this turn is due
+        assertThat(wheel.advance(START.plusSeconds(31)), contains("thisTurn"));
+        assertThat(wheel.advance(START.plusSeconds(90)), empty());
+
+        // advancing by more than a turn looks at all the slots
+        wheel.schedule("far", START.plusSeconds(200));
+        assertThat(wheel.advance(START.plusSeconds(1000)), containsInAnyOrder("nextTurn", "far"));
+    }
+
+    @Test
+    void reschedule() {
+        TimingWheel wheel = new TimingWheel(60, START);
+
+        wheel.schedule("trigger", START.plusSeconds(10));
+        wheel.schedule("trigger", START.plusSeconds(20));
+        assertThat(wheel.advance(START.plusSeconds(15)), empty());
+
+        Set<String> due = wheel.advance(START.plusSeconds(21));
+        assertThat(due, contains("trigger"));
+
+        wheel.schedule("removed", START.plusSeconds(30));
+        wheel.remove("removed");
+        assertThat(wheel.advance(START.plusSeconds(40)), empty());
+        assertThat(wheel.size(), is(0));
+    }
+}
@@ -43,7 +43,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, int limit) {
         var select =  ctx.select(
                 AbstractJdbcRepository.field("value"),
                 AbstractJdbcRepository.field("offset")
@@ -62,7 +62,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .fetchMany()
             .get(0);
@@ -0,0 +1,10 @@
+/* ----------------------- queue_offsets ----------------------- */
+CREATE TABLE IF NOT EXISTS queue_offsets
+(
+    "type"           VARCHAR(250) NOT NULL,
+    "consumer_group" VARCHAR(250) NOT NULL,
+    "consumer"       VARCHAR(250) NOT NULL,
+    "offset"         INT NOT NULL,
+    "updated"        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY ("type", "consumer_group", "consumer")
+);
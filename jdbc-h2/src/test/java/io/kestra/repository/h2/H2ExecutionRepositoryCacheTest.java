@@ -0,0 +1,9 @@
+package io.kestra.repository.h2;
+
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepositoryCacheTest;
+import io.micronaut.context.annotation.Property;
+
+@Property(name = "kestra.jdbc.executor.execution-cache-size", value = "100")
+public class H2ExecutionRepositoryCacheTest extends AbstractJdbcExecutionRepositoryCacheTest {
+
+}
@@ -0,0 +1,10 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcQueueConsumerOffsetsTest;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+
+@Property(name = "kestra.jdbc.queues.consumer-offsets", value = StringUtils.TRUE)
+class H2QueueConsumerOffsetsTest extends JdbcQueueConsumerOffsetsTest {
+
+}
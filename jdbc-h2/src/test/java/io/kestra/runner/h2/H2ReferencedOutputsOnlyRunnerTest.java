@@ -0,0 +1,10 @@
+package io.kestra.runner.h2;
+
+import io.kestra.jdbc.runner.JdbcReferencedOutputsOnlyRunnerTest;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+
+@Property(name = "kestra.executor.worker-task.referenced-outputs-only", value = StringUtils.TRUE)
+public class H2ReferencedOutputsOnlyRunnerTest extends JdbcReferencedOutputsOnlyRunnerTest {
+
+}
@@ -43,7 +43,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, int limit) {
         var select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
@@ -64,7 +64,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
@@ -9,6 +9,7 @@ import io.micronaut.context.ApplicationContext;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Slf4j
 public class MysqlWorkerJobQueue implements WorkerJobQueueInterface {
@@ -23,6 +24,11 @@ public class MysqlWorkerJobQueue implements WorkerJobQueueInterface {
         return jdbcworkerjobQueueService.receive(consumerGroup, queueType, consumer);
     }
 
+    @Override
+    public Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier maxJobs, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return jdbcworkerjobQueueService.receive(consumerGroup, queueType, maxJobs, consumer);
+    }
+
     @Override
     public void pause() {
         jdbcworkerjobQueueService.pause();
@@ -0,0 +1,78 @@
+-- Optional partitioned layout of the queues table, enabled by adding 'classpath:migrations/mysql-partitioned'
+-- to the flyway locations and 'kestra.jdbc.cleaner.partitioned: true' to the configuration.
+-- MySQL cannot list-partition on an ENUM column nor sub-partition by range, so the table is only
+-- range-partitioned by day on the creation date so that the cleaner can drop whole partitions instead of deleting rows.
+-- It's a repeatable migration: it's applied after the versioned migrations of the main location, outside their version
+-- sequence, and applied again only when this file changes, the table being converted only when it's not yet partitioned.
+
+-- Procedure used by the cleaner to create the upcoming daily partitions and drop the ones older than the retention.
+DROP PROCEDURE IF EXISTS QUEUES_MAINTAIN_PARTITIONS;
+
+DELIMITER //
+CREATE PROCEDURE QUEUES_MAINTAIN_PARTITIONS(IN older_than TIMESTAMP)
+BEGIN
+    DECLARE partition_day DATE DEFAULT CURRENT_DATE;
+    DECLARE expired_partitions TEXT;
+
+    WHILE partition_day <= CURRENT_DATE + INTERVAL 2 DAY DO
+        IF NOT EXISTS (
+            SELECT 1 FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'queues'
+              AND PARTITION_NAME = CONCAT('p', DATE_FORMAT(partition_day, '%Y%m%d'))
+        ) THEN
+            SET @ddl = CONCAT(
+                'ALTER TABLE queues REORGANIZE PARTITION pmax INTO (',
+                'PARTITION p', DATE_FORMAT(partition_day, '%Y%m%d'), ' VALUES LESS THAN (', UNIX_TIMESTAMP(partition_day + INTERVAL 1 DAY), '), ',
+                'PARTITION pmax VALUES LESS THAN MAXVALUE)'
+            );
+            PREPARE stmt FROM @ddl;
+            EXECUTE stmt;
+            DEALLOCATE PREPARE stmt;
+        END IF;
+
+        SET partition_day = partition_day + INTERVAL 1 DAY;
+    END WHILE;
+
+    SELECT GROUP_CONCAT(PARTITION_NAME) INTO expired_partitions
+    FROM information_schema.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'queues'
+      AND PARTITION_DESCRIPTION <> 'MAXVALUE'
+      AND CAST(PARTITION_DESCRIPTION AS UNSIGNED) <= UNIX_TIMESTAMP(older_than);
+
+    IF expired_partitions IS NOT NULL THEN
+        SET @ddl = CONCAT('ALTER TABLE queues DROP PARTITION ', expired_partitions);
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+CREATE PROCEDURE QUEUES_PARTITION()
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.PARTITIONS
+        WHERE TABLE_SCHEMA = DATABASE()
+          AND TABLE_NAME = 'queues'
+          AND PARTITION_NAME IS NOT NULL
+    ) THEN
+        ALTER TABLE queues ADD COLUMN created TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+        -- keep the updated column untouched, it's updated on each update otherwise
+        UPDATE queues SET created = updated, updated = updated;
+
+        -- the partition key must be part of the primary key
+        ALTER TABLE queues DROP PRIMARY KEY, ADD PRIMARY KEY (`offset`, created);
+
+        ALTER TABLE queues PARTITION BY RANGE (UNIX_TIMESTAMP(created)) (
+            PARTITION pmax VALUES LESS THAN MAXVALUE
+        );
+    END IF;
+END //
+DELIMITER ;
+
+CALL QUEUES_PARTITION();
+DROP PROCEDURE QUEUES_PARTITION;
+
+CALL QUEUES_MAINTAIN_PARTITIONS(CURRENT_TIMESTAMP - INTERVAL 7 DAY);
@@ -0,0 +1,2 @@
+-- hash of the value, written by the executors having an execution cache to know if their cached execution is still up to date
+ALTER TABLE executions ADD COLUMN `value_hash` VARCHAR(64) NULL;
@@ -9,14 +9,20 @@ import org.jooq.*;
 import org.jooq.Record;
 import org.jooq.impl.DSL;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.jooq.impl.DSL.*;
 
 public class PostgresQueue<T> extends JdbcQueue<T> {
     private boolean disableSeqScan = false;
 
+    private final PostgresQueueNotifier notifier;
+
+    private final String channel;
+
     public PostgresQueue(Class<T> cls, ApplicationContext applicationContext) {
         super(cls, applicationContext);
 
@@ -24,6 +30,39 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         if (maybeDisableSeScan.isPresent() && maybeDisableSeScan.get()) {
             disableSeqScan = true;
         }
+
+        channel = "kestra_queue_" + cls.getSimpleName().toLowerCase();
+        notifier = applicationContext.findBean(PostgresQueueNotifier.class).orElse(null);
+    }
+
+    @Override
+    protected void notifyConsumers(DSLContext context) {
+        if (notifier != null) {
+            notifier.publish(context, channel);
+        }
+    }
+
+    @Override
+    protected Runnable poll(Supplier<Integer> runnable) {
+        if (notifier != null) {
+            notifier.listen(channel);
+        }
+
+        return super.poll(runnable);
+    }
+
+    @Override
+    protected long pollSequence() {
+        return notifier != null ? notifier.sequence(channel) : super.pollSequence();
+    }
+
+    @Override
+    protected void pollWait(long sequence, long sleep) throws InterruptedException {
+        if (notifier != null) {
+            notifier.await(channel, sequence, sleep);
+        } else {
+            super.pollWait(sequence, sleep);
+        }
     }
 
     @Override
@@ -39,6 +78,11 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         return map;
     }
 
+    @Override
+    protected Condition typeCondition() {
+        return DSL.condition("type = CAST(? AS queue_type)", this.cls.getName());
+    }
+
     @Override
     protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, @NonNull Integer offset) {
         var select = ctx.select(
@@ -68,7 +112,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, int limit) {
         if (disableSeqScan) {
             ctx.setLocal(name("enable_seqscan"), val("off")).execute();
         }
@@ -88,7 +132,7 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
         }
 
         return select.orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(configuration.getPollSize())
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
@@ -113,4 +157,22 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
 
         update.execute();
     }
+
+    @Override
+    public void pause() {
+        super.pause();
+
+        if (notifier != null) {
+            notifier.signal(channel);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+
+        if (notifier != null) {
+            notifier.signal(channel);
+        }
+    }
 }
@@ -0,0 +1,191 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Listen on the Postgres channels of the queues and wake up the pollers waiting on them.
+ * A single connection, outside the connection pool, listens on the channels of all the queues, so the pool is not
+ * used by the notifications. Each notification increments the sequence of its channel, so a poller that fetched before
+ * a notification will not wait for it.
+ * When the listening connection is lost, pollers will only be woken up at the end of their poll interval.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Requires(property = "kestra.queue.postgres.listen-notify", value = StringUtils.TRUE)
+@Slf4j
+public class PostgresQueueNotifier {
+    static final String APPLICATION_NAME = "kestra-queue-notifier";
+
+    private static final Duration RECONNECT_INTERVAL = Duration.ofSeconds(1);
+
+    private final String url;
+
+    private final Properties properties = new Properties();
+
+    private final Duration listenTimeout;
+
+    private final ExecutorService executorService;
+
+    // the channels of the started queues, each one used as the monitor of its pollers
+    private final Map<String, Sequence> channels = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private volatile boolean isShutdown = false;
+
+    @Inject
+    public PostgresQueueNotifier(
+        @Value("${datasources.postgres.url}") String url,
+        @Value("${datasources.postgres.username:}") String username,
+        @Value("${datasources.postgres.password:}") String password,
+        @Value("${kestra.jdbc.queues.max-poll-interval:1000ms}") Duration listenTimeout,
+        ExecutorsUtils executorsUtils
+    ) {
+        this.url = url;
+        this.listenTimeout = listenTimeout;
+        this.executorService = executorsUtils.singleThreadExecutor("postgres-queue-notifier");
+
+        if (!username.isEmpty()) {
+            this.properties.setProperty("user", username);
+        }
+        if (!password.isEmpty()) {
+            this.properties.setProperty("password", password);
+        }
+        this.properties.setProperty("ApplicationName", APPLICATION_NAME);
+    }
+
+    public void publish(DSLContext context, String channel) {
+        context.execute("SELECT pg_notify(?, '')", channel);
+    }
+
+    /**
+     * Start listening on the channel, the listening connection is opened with the first channel.
+     */
+    public void listen(String channel) {
+        this.channels.computeIfAbsent(channel, k -> new Sequence());
+
+        if (this.started.compareAndSet(false, true)) {
+            this.executorService.execute(this::listen);
+        }
+    }
+
+    public long sequence(String channel) {
+        Sequence sequence = this.channel(channel);
+
+        synchronized (sequence) {
+            return sequence.value;
+        }
+    }
+
+    public void await(String channel, long sequence, long timeout) throws InterruptedException {
+        Sequence current = this.channel(channel);
+        long deadline = System.currentTimeMillis() + timeout;
+
+        synchronized (current) {
+            long remaining = timeout;
+            while (current.value == sequence && remaining > 0 && !this.isShutdown) {
+                current.wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Wake up the pollers of the channel, to let them see that their queue was stopped.
+     */
+    public void signal(String channel) {
+        Sequence sequence = this.channel(channel);
+
+        synchronized (sequence) {
+            sequence.value++;
+            sequence.notifyAll();
+        }
+    }
+
+    private Sequence channel(String channel) {
+        return this.channels.computeIfAbsent(channel, k -> new Sequence());
+    }
+
+    @SuppressWarnings("BusyWait")
+    private void listen() {
+        while (!this.isShutdown) {
+            try (Connection connection = DriverManager.getConnection(this.url, this.properties)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Set<String> listened = new HashSet<>();
+
+                while (!this.isShutdown) {
+                    // the channels of the queues started since the last notifications
+                    for (String channel : this.channels.keySet()) {
+                        if (listened.add(channel)) {
+                            this.listen(connection, channel);
+                        }
+                    }
+
+                    PGNotification[] notifications = pgConnection.getNotifications((int) this.listenTimeout.toMillis());
+
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            this.signal(notification.getName());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (this.isShutdown) {
+                    return;
+                }
+
+                log.warn("Unable to listen on the queue channels, falling back to polling", e);
+
+                try {
+                    Thread.sleep(RECONNECT_INTERVAL.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(Connection connection, String channel) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN \"" + channel + "\"");
+        }
+
+        // messages may have been produced while we were not listening
+        this.signal(channel);
+    }
+
+    @PreDestroy
+    public void close() {
+        this.isShutdown = true;
+        this.channels.keySet().forEach(this::signal);
+        this.executorService.shutdown();
+    }
+
+    private static class Sequence {
+        private long value = 0L;
+    }
+}
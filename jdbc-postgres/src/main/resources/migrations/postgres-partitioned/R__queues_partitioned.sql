@@ -0,0 +1,122 @@
+-- Optional partitioned layout of the queues table, enabled by adding 'classpath:migrations/postgres-partitioned'
+-- to the flyway locations and 'kestra.jdbc.cleaner.partitioned: true' to the configuration.
+-- The table is list-partitioned by type, each type being range-partitioned by day on the creation date
+-- so that the cleaner can drop whole partitions instead of deleting rows.
+-- It's a repeatable migration: it's applied after the versioned migrations of the main location, outside their version
+-- sequence, and applied again only when this file changes, the table being converted only when it's not yet partitioned.
+
+-- Procedure used by the cleaner to create the upcoming daily partitions and drop the ones older than the retention.
+CREATE OR REPLACE PROCEDURE QUEUES_MAINTAIN_PARTITIONS(older_than TIMESTAMPTZ)
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    parent RECORD;
+    child RECORD;
+    day DATE;
+BEGIN
+    FOR parent IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        WHERE p.relname = 'queues' AND c.relkind = 'p'
+    LOOP
+        FOR day IN SELECT CAST(d AS DATE) FROM generate_series(CURRENT_DATE, CURRENT_DATE + 2, INTERVAL '1 day') d
+        LOOP
+            EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent.relname || '_' || to_char(day, 'YYYYMMDD'),
+                parent.relname,
+                day,
+                day + 1
+            );
+        END LOOP;
+
+        FOR child IN
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = parent.relname AND c.relname ~ '_\d{8}$'
+        LOOP
+            IF to_date(right(child.relname, 8), 'YYYYMMDD') + 1 <= CAST(older_than AS DATE) THEN
+                EXECUTE format('DROP TABLE IF EXISTS %I', child.relname);
+            END IF;
+        END LOOP;
+    END LOOP;
+END;
+$$;
+
+DO $$
+    DECLARE
+        queue_type_value queue_type;
+        partition_name TEXT;
+    BEGIN
+        IF EXISTS (
+            SELECT 1
+            FROM pg_partitioned_table pt
+            JOIN pg_class c ON c.oid = pt.partrelid
+            WHERE c.relname = 'queues'
+        ) THEN
+            RETURN;
+        END IF;
+
+        ALTER TABLE queues RENAME TO queues_legacy;
+        ALTER SEQUENCE queues_offset_seq OWNED BY NONE;
+
+        -- no primary key, like the main layout since V1_4: its index would be used by the poll queries instead of the
+        -- type and offset ones, the hash index on the offset is used when filtering on it
+        CREATE TABLE queues (
+            "offset" INTEGER NOT NULL DEFAULT nextval('queues_offset_seq'),
+            type queue_type NOT NULL,
+            key VARCHAR(250) NOT NULL,
+            value JSONB NOT NULL,
+            updated TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            created TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            consumer_indexer BOOLEAN DEFAULT FALSE,
+            consumer_executor BOOLEAN DEFAULT FALSE,
+            consumer_worker BOOLEAN DEFAULT FALSE,
+            consumer_scheduler BOOLEAN DEFAULT FALSE,
+            consumer_flow_topology BOOLEAN DEFAULT FALSE,
+            consumer_group VARCHAR(250)
+        ) PARTITION BY LIST (type);
+
+        ALTER SEQUENCE queues_offset_seq OWNED BY queues."offset";
+
+        -- one partition by type, types added later will go to the default partition
+        FOR queue_type_value IN SELECT unnest(enum_range(NULL::queue_type))
+        LOOP
+            partition_name := 'queues_' || lower(regexp_replace(CAST(queue_type_value AS TEXT), '^.*\.', ''));
+
+            EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF queues FOR VALUES IN (%L) PARTITION BY RANGE (created)',
+                partition_name,
+                queue_type_value
+            );
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I DEFAULT', partition_name || '_default', partition_name);
+        END LOOP;
+
+        CREATE TABLE IF NOT EXISTS queues_default PARTITION OF queues DEFAULT;
+
+        CALL QUEUES_MAINTAIN_PARTITIONS(CURRENT_TIMESTAMP - INTERVAL '7 days');
+
+        INSERT INTO queues ("offset", type, key, value, updated, created, consumer_indexer, consumer_executor, consumer_worker, consumer_scheduler, consumer_flow_topology, consumer_group)
+        SELECT "offset", type, key, value, updated, updated, consumer_indexer, consumer_executor, consumer_worker, consumer_scheduler, consumer_flow_topology, consumer_group
+        FROM queues_legacy;
+
+        DROP TABLE queues_legacy;
+
+        CREATE INDEX IF NOT EXISTS queues_type__offset ON queues (type, "offset");
+        CREATE INDEX IF NOT EXISTS queues_updated ON queues ("updated");
+        CREATE INDEX IF NOT EXISTS queues_offset ON queues USING hash ("offset");
+        CREATE INDEX IF NOT EXISTS queues_type__consumer_flow_topology ON queues (type, consumer_flow_topology, "offset") WHERE consumer_flow_topology = false;
+        CREATE INDEX IF NOT EXISTS queues_type__consumer_indexer ON queues (type, consumer_indexer, "offset") WHERE consumer_indexer = false;
+        CREATE INDEX IF NOT EXISTS queues_type__consumer_executor ON queues (type, consumer_executor, "offset") WHERE consumer_executor = false;
+        CREATE INDEX IF NOT EXISTS queues_type__consumer_worker ON queues (type, consumer_worker, "offset") WHERE consumer_worker = false;
+        CREATE INDEX IF NOT EXISTS queues_type__consumer_scheduler ON queues (type, consumer_scheduler, "offset") WHERE consumer_scheduler = false;
+
+        CREATE OR REPLACE TRIGGER queues_updated BEFORE UPDATE
+            ON queues FOR EACH ROW EXECUTE PROCEDURE
+            UPDATE_UPDATED_DATETIME();
+    END;
+$$;
@@ -0,0 +1,73 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.runner.JdbcCleaner;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest(transactional = false)
+@Property(name = "flyway.datasources.postgres.locations", value = "classpath:migrations/postgres,classpath:migrations/postgres-partitioned")
+@Property(name = "kestra.jdbc.cleaner.initial-delay", value = "1h")
+@Property(name = "kestra.jdbc.cleaner.fixed-delay", value = "1h")
+@Property(name = "kestra.jdbc.cleaner.retention", value = "7d")
+@Property(name = "kestra.jdbc.cleaner.partitioned", value = StringUtils.TRUE)
+class PostgresCleanerPartitionsTest {
+    @Inject
+    JdbcCleaner jdbcCleaner;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void maintainQueuePartitions() {
+        dslContextWrapper.transaction(configuration -> DSL.using(configuration).execute(
+            "CREATE TABLE IF NOT EXISTS queues_execution_20000101 PARTITION OF queues_execution FOR VALUES FROM ('2000-01-01') TO ('2000-01-02')"
+        ));
+        assertThat(partitionExists("'queues_execution_20000101'"), is(true));
+
+        jdbcCleaner.maintainQueuePartitions();
+
+        // the expired partition is dropped, the upcoming ones are created
+        assertThat(partitionExists("'queues_execution_20000101'"), is(false));
+        assertThat(partitionExists("'queues_execution_' || to_char(CURRENT_DATE, 'YYYYMMDD')"), is(true));
+        assertThat(partitionExists("'queues_execution_' || to_char(CURRENT_DATE + 2, 'YYYYMMDD')"), is(true));
+
+        // the new messages go to the partition of the day, not the default one
+        dslContextWrapper.transaction(configuration -> DSL.using(configuration).execute(
+            "INSERT INTO queues (type, key, value) VALUES ('io.kestra.core.models.executions.Execution', 'key', '{}')"
+        ));
+        assertThat(count("queues_execution"), is(1));
+        assertThat(count("queues_execution_default"), is(0));
+    }
+
+    private int count(String table) {
+        return dslContextWrapper.transactionResult(configuration -> DSL.using(configuration).fetchCount(DSL.table(table)));
+    }
+
+    private boolean partitionExists(String name) {
+        return dslContextWrapper.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            return context.fetchExists(context.selectOne().from("pg_class").where("relname = " + name));
+        });
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
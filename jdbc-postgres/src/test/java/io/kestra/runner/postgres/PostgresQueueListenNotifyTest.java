@@ -0,0 +1,10 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.runner.JdbcQueueTest;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+
+@Property(name = "kestra.queue.postgres.listen-notify", value = StringUtils.TRUE)
+class PostgresQueueListenNotifyTest extends JdbcQueueTest {
+
+}
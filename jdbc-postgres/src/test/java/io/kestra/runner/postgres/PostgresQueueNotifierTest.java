@@ -0,0 +1,94 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest(transactional = false)
+@Property(name = "kestra.queue.postgres.listen-notify", value = StringUtils.TRUE)
+@Property(name = "kestra.jdbc.queues.max-poll-interval", value = "100ms")
+class PostgresQueueNotifierTest {
+    @Inject
+    DSLContext dslContext;
+
+    @Inject
+    PostgresQueueNotifier notifier;
+
+    private String channel;
+
+    @Test
+    void wakeUp() throws InterruptedException {
+        long sequence = notifier.sequence(channel);
+
+        dslContext.transaction(configuration -> notifier.publish(configuration.dsl(), channel));
+
+        long start = System.currentTimeMillis();
+        notifier.await(channel, sequence, Duration.ofSeconds(30).toMillis());
+
+        assertThat(notifier.sequence(channel), greaterThan(sequence));
+        assertThat(System.currentTimeMillis() - start, lessThan(Duration.ofSeconds(10).toMillis()));
+    }
+
+    @Test
+    void channels() throws InterruptedException, TimeoutException {
+        String other = "kestra_queue_" + IdUtils.create().toLowerCase();
+        notifier.listen(other);
+        Await.until(() -> notifier.sequence(other) > 0, Duration.ofMillis(50), Duration.ofSeconds(10));
+
+        // both channels are listened by the same connection, a notification only wakes up the pollers of its channel
+        long sequence = notifier.sequence(channel);
+        long otherSequence = notifier.sequence(other);
+
+        dslContext.transaction(configuration -> notifier.publish(configuration.dsl(), other));
+        notifier.await(other, otherSequence, Duration.ofSeconds(30).toMillis());
+
+        assertThat(notifier.sequence(other), greaterThan(otherSequence));
+        assertThat(notifier.sequence(channel), is(sequence));
+    }
+
+    @Test
+    void connectionLost() throws InterruptedException, TimeoutException {
+        long sequence = notifier.sequence(channel);
+
+        // kill the listening connection
+        dslContext.execute(
+            "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+            PostgresQueueNotifier.APPLICATION_NAME
+        );
+
+        // without the connection, the pollers still wait for their poll interval only
+        long start = System.currentTimeMillis();
+        notifier.await(channel, sequence, 200);
+        assertThat(System.currentTimeMillis() - start, lessThan(Duration.ofSeconds(5).toMillis()));
+
+        // listening again after reconnecting
+        Await.until(() -> notifier.sequence(channel) > sequence, Duration.ofMillis(50), Duration.ofSeconds(10));
+
+        long reconnected = notifier.sequence(channel);
+        dslContext.transaction(configuration -> notifier.publish(configuration.dsl(), channel));
+        notifier.await(channel, reconnected, Duration.ofSeconds(30).toMillis());
+
+        assertThat(notifier.sequence(channel), greaterThan(reconnected));
+    }
+
+    @BeforeEach
+    void init() throws TimeoutException {
+        channel = "kestra_queue_" + IdUtils.create().toLowerCase();
+        notifier.listen(channel);
+
+        // the notifier signals once it listens
+        Await.until(() -> notifier.sequence(channel) > 0, Duration.ofMillis(50), Duration.ofSeconds(10));
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Singleton
 @Slf4j
@@ -37,8 +38,12 @@ public class JdbcWorkerJobQueueService {
     }
 
     public Runnable receive(String consumerGroup, Class<?> queueType, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
+        return this.receive(consumerGroup, queueType, () -> Integer.MAX_VALUE, consumer);
+    }
+
+    public Runnable receive(String consumerGroup, Class<?> queueType, IntSupplier maxJobs, Consumer<Either<WorkerJob, DeserializationException>> consumer) {
 
-        this.queueStop = workerTaskQueue.receiveTransaction(consumerGroup, queueType, (dslContext, eithers) -> {
+        this.queueStop = workerTaskQueue.receiveTransaction(consumerGroup, queueType, maxJobs, (dslContext, eithers) -> {
 
             Worker worker = serviceRegistry.waitForServiceAndGet(Service.ServiceType.WORKER).unwrap();
 
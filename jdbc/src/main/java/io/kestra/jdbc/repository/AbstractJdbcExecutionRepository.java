@@ -1,5 +1,8 @@
 package io.kestra.jdbc.repository;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.kestra.core.events.CrudEvent;
 import io.kestra.core.events.CrudEventType;
 import io.kestra.core.models.executions.Execution;
@@ -29,6 +32,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.Param;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
@@ -44,6 +48,7 @@ import org.jooq.impl.DSL;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -68,6 +73,8 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     private QueueInterface<Execution> executionQueue;
 
+    private final Cache<String, CachedExecution> executionCache;
+
     @SuppressWarnings("unchecked")
     public AbstractJdbcExecutionRepository(
         io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository,
@@ -80,6 +87,11 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         // we inject ApplicationContext in order to get the ExecutionQueue lazy to avoid StackOverflowError
         this.applicationContext = applicationContext;
+
+        int executionCacheSize = applicationContext.getProperty("kestra.jdbc.executor.execution-cache-size", Integer.class).orElse(0);
+        this.executionCache = executionCacheSize > 0 ?
+            CacheBuilder.newBuilder().maximumSize(executionCacheSize).build() :
+            null;
     }
 
     @SuppressWarnings("unchecked")
@@ -222,6 +234,48 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
     }
 
+    @Override
+    public List<Execution> findAfter(
+        @Nullable String afterId,
+        int size,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record1<Object>> select = this.findSelect(
+                    context,
+                    query,
+                    tenantId,
+                    namespace,
+                    flowId,
+                    startDate,
+                    endDate,
+                    state,
+                    labels,
+                    triggerExecutionId,
+                    childFilter
+                );
+
+                if (afterId != null) {
+                    select = select.and(field("key").greaterThan(afterId));
+                }
+
+                return this.jdbcRepository.fetch(select.orderBy(field("key").asc()).limit(size));
+            });
+    }
+
     private SelectConditionStep<Record1<Object>> findSelect(
         DSLContext context,
         @Nullable String query,
@@ -838,7 +892,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+        Map<Field<Object>, Object> fields = this.persistFields(execution);
         this.jdbcRepository.persist(execution, fields);
 
         return execution;
@@ -846,7 +900,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(DSLContext dslContext, Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+        Map<Field<Object>, Object> fields = this.persistFields(execution);
         this.jdbcRepository.persist(execution, dslContext, fields);
 
         return execution;
@@ -859,7 +913,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             .transactionResult(configuration -> {
                 DSL.using(configuration)
                     .update(this.jdbcRepository.getTable())
-                    .set(this.jdbcRepository.persistFields((execution)))
+                    .set(this.persistFields(execution))
                     .where(field("key").eq(execution.getId()))
                     .execute();
 
@@ -877,7 +931,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         Execution deleted = execution.toDeleted();
 
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
+        Map<Field<Object>, Object> fields = this.persistFields(deleted);
         this.jdbcRepository.persist(deleted, fields);
 
         executionQueue().emit(deleted);
@@ -887,6 +941,29 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return deleted;
     }
 
+    @Override
+    public List<Execution> delete(List<Execution> executions) {
+        if (executions.isEmpty()) {
+            return executions;
+        }
+
+        List<Execution> deleted = executions.stream().map(Execution::toDeleted).toList();
+
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                deleted.forEach(execution -> this.jdbcRepository.persist(execution, context, this.persistFields(execution)));
+            });
+
+        executionQueue().emitBatch(deleted);
+
+        deleted.forEach(execution -> eventPublisher.publishEvent(new CrudEvent<>(execution, CrudEventType.DELETE)));
+
+        return deleted;
+    }
+
     @Override
     public Integer purge(Execution execution) {
         return this.jdbcRepository.delete(execution);
@@ -898,14 +975,46 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
 
-                SelectForUpdateOfStep<Record1<Object>> from = context
-                    .select(field("value"))
-                    .from(this.jdbcRepository.getTable())
-                    .where(field("key").eq(executionId))
-                    .and(this.defaultFilter())
-                    .forUpdate();
+                Optional<Execution> execution;
+                String valueHash = null;
+
+                if (this.executionCache != null) {
+                    // only lock and fetch the hash, the value is only fetched if the cached one is outdated
+                    Record1<String> hash = context
+                        .select(field("value_hash", String.class))
+                        .from(this.jdbcRepository.getTable())
+                        .where(field("key").eq(executionId))
+                        .and(this.defaultFilter())
+                        .forUpdate()
+                        .fetchAny();
+
+                    if (hash == null) {
+                        this.executionCache.invalidate(executionId);
+                        return null;
+                    }
+
+                    valueHash = hash.value1();
+                    CachedExecution cached = this.executionCache.getIfPresent(executionId);
+
+                    if (cached != null && valueHash != null && valueHash.equals(cached.valueHash())) {
+                        execution = Optional.of(cached.execution());
+                    } else {
+                        execution = this.jdbcRepository.fetchOne(context
+                            .select(field("value"))
+                            .from(this.jdbcRepository.getTable())
+                            .where(field("key").eq(executionId))
+                        );
+                    }
+                } else {
+                    SelectForUpdateOfStep<Record1<Object>> from = context
+                        .select(field("value"))
+                        .from(this.jdbcRepository.getTable())
+                        .where(field("key").eq(executionId))
+                        .and(this.defaultFilter())
+                        .forUpdate();
 
-                Optional<Execution> execution = this.jdbcRepository.fetchOne(from);
+                    execution = this.jdbcRepository.fetchOne(from);
+                }
 
                 // not ready for now, skip and wait for a first state
                 if (execution.isEmpty()) {
@@ -916,16 +1025,66 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    Execution updated = pair.getKey().getExecution();
+
+                    Map<Field<Object>, Object> fields = this.persistFields(updated);
+
+                    this.jdbcRepository.persist(updated, context, fields);
                     this.executorStateStorage.save(context, pair.getRight());
 
+                    this.cache(updated, (String) fields.get(field("value_hash")));
+
                     return pair.getKey();
                 }
 
+                // the execution is unchanged, keep the one we just fetched
+                if (this.executionCache != null && valueHash != null) {
+                    this.executionCache.put(executionId, new CachedExecution(execution.get(), valueHash));
+                }
+
                 return null;
             });
     }
 
+    private void cache(Execution execution, String valueHash) {
+        if (this.executionCache == null) {
+            return;
+        }
+
+        // terminated executions will not receive any more messages
+        if (execution.getState().isTerminated() || valueHash == null) {
+            this.executionCache.invalidate(execution.getId());
+        } else {
+            this.executionCache.put(execution.getId(), new CachedExecution(execution, valueHash));
+        }
+    }
+
+    /**
+     * The fields of an execution with the hash of its value, only computed when the execution cache is enabled.
+     * The hash is written as null otherwise, so a write from a server without the cache invalidates the cached executions.
+     */
+    private Map<Field<Object>, Object> persistFields(Execution execution) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+
+        String valueHash = null;
+        if (this.executionCache != null) {
+            // the value is the JSON, or a bind value of it for some databases
+            Object value = fields.get(field("value"));
+            String json = String.valueOf(value instanceof Param<?> param ? param.getValue() : value);
+
+            valueHash = Hashing.sha256().hashString(json, StandardCharsets.UTF_8).toString();
+        }
+
+        fields.put(field("value_hash"), valueHash);
+
+        return fields;
+    }
+
+    /**
+     * An execution as last written by this executor, valid as long as the stored value hash didn't change.
+     */
+    private record CachedExecution(Execution execution, String valueHash) {}
+
     @Override
     public Function<String, String> sortMapping() throws IllegalArgumentException {
         Map<String, String> mapper = Map.of(
@@ -17,6 +17,7 @@ import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 
 @Singleton
@@ -40,21 +41,43 @@ public class JdbcCleaner {
     }
 
     public void deleteQueue() throws QueueException {
+        OffsetDateTime olderThan = ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime();
+
         dslContextWrapper.transaction(configuration -> {
             int deleted = DSL
                 .using(configuration)
                 .delete(this.queueTable)
                 .where(
                     AbstractJdbcRepository.field("updated")
-                        .lessOrEqual(ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime())
+                        .lessOrEqual(olderThan)
                 )
                 .execute();
             log.info("Cleaned {} records from {}", deleted, this.queueTable.getName());
         });
     }
 
+    /**
+     * Create the upcoming partitions and drop the expired ones, only available when the queue table use the
+     * partitioned layout from the optional migrations.
+     */
+    public void maintainQueuePartitions() throws QueueException {
+        OffsetDateTime olderThan = ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime();
+
+        dslContextWrapper.transaction(configuration -> {
+            DSL
+                .using(configuration)
+                .execute("CALL QUEUES_MAINTAIN_PARTITIONS(?)", olderThan);
+            log.info("Maintained partitions from {}", this.queueTable.getName());
+        });
+    }
+
     @Scheduled(initialDelay = "${kestra.jdbc.cleaner.initial-delay}", fixedDelay = "${kestra.jdbc.cleaner.fixed-delay}")
     public void report() {
+        if (this.configuration.getPartitioned()) {
+            maintainQueuePartitions();
+        }
+
+        // with the partitioned layout, only the default partitions still have expired records here
         deleteQueue();
     }
 
@@ -62,5 +85,6 @@ public class JdbcCleaner {
     @Getter
     public static class Configuration {
         Duration retention;
+        Boolean partitioned = false;
     }
 }
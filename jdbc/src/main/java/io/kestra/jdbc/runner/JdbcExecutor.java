@@ -1,6 +1,8 @@
 package io.kestra.jdbc.runner;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.contexts.KestraContext;
 import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.exceptions.InternalException;
@@ -21,6 +23,7 @@ import io.kestra.core.models.topologies.FlowTopology;
 import io.kestra.core.models.triggers.multipleflows.MultipleConditionStorageInterface;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.queues.QueueService;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.runners.*;
 import io.kestra.core.server.Service;
@@ -44,6 +47,7 @@ import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
 import io.kestra.jdbc.repository.AbstractJdbcFlowTopologyRepository;
 import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
 import jakarta.annotation.PreDestroy;
@@ -58,7 +62,11 @@ import org.slf4j.event.Level;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
@@ -172,6 +180,17 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Inject
     private LogService logService;
 
+    @Inject
+    private QueueService queueService;
+
+    @Value("${kestra.jdbc.executor.lanes:1}")
+    private int lanes;
+
+    @Value("${kestra.jdbc.executor.flow-cache-max-tasks:10000}")
+    private int flowCacheMaxTasks;
+
+    private Cache<FlowCacheKey, Flow> flowCache;
+
     private final FlowRepositoryInterface flowRepository;
 
     private final JdbcServiceLivenessCoordinator serviceLivenessCoordinator;
@@ -214,12 +233,45 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         flowListeners.run();
         flowListeners.listen(flows -> this.allFlows = flows);
 
+        if (this.flowCacheMaxTasks > 0) {
+            this.flowCache = CacheBuilder.newBuilder()
+                .maximumWeight(this.flowCacheMaxTasks)
+                .weigher((FlowCacheKey key, Flow flow) -> Math.max(1, flow.allTasksWithChilds().size()))
+                .build();
+
+            // any update or deletion of a flow invalidates all its revisions
+            flowListeners.listen((flow, previous) -> this.flowCache
+                .asMap()
+                .keySet()
+                .removeIf(key -> key.isFor(flow))
+            );
+        }
+
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
-        this.executionQueue.receive(Executor.class, this::executionQueue);
-        this.workerTaskResultQueue.receive(Executor.class, this::workerTaskResultQueue);
+        // messages are processed on parallel lanes keyed by the execution id they lock, so the order is kept for a given execution
+        this.executionQueue.receiveLanes(
+            null,
+            Executor.class,
+            lanes,
+            queueService::key,
+            eithers -> eithers.forEach(this::executionQueue)
+        );
+        this.workerTaskResultQueue.receiveLanes(
+            null,
+            Executor.class,
+            lanes,
+            workerTaskResult -> workerTaskResult.getTaskRun().getExecutionId(),
+            this::workerTaskResultQueue
+        );
         this.killQueue.receive(Executor.class, this::killQueue);
-        this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue);
+        this.subflowExecutionResultQueue.receiveLanes(
+            null,
+            Executor.class,
+            lanes,
+            subflowExecutionResult -> subflowExecutionResult.getParentTaskRun().getExecutionId(),
+            eithers -> eithers.forEach(this::subflowExecutionResultQueue)
+        );
 
         ScheduledFuture<?> scheduledDelayFuture = scheduledDelay.scheduleAtFixedRate(
             this::executionDelaySend,
@@ -343,7 +395,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             Execution execution = pair.getLeft();
             ExecutorState executorState = pair.getRight();
 
-            final Flow flow = transform(this.flowRepository.findByExecution(execution), execution);
+            final Flow flow = this.findFlow(execution);
             Executor executor = new Executor(execution, null).withFlow(flow);
 
             // queue execution if needed (limit concurrency)
@@ -397,30 +449,34 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     .filter(workerTask -> this.deduplicateWorkerTask(execution, executorState, workerTask.getTaskRun()))
                     .toList();
 
-                // WorkerTask not flowable to workerTask
+                // WorkerTask not flowable to workerTask, grouped by worker group to be sent in batch
+                Map<String, List<WorkerJob>> workerJobsByGroup = new LinkedHashMap<>();
                 workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isSendToWorkerTask())
-                    .forEach(workerTask -> workerTaskQueue.emit(workerGroupService.resolveGroupFromJob(workerTask), workerTask));
+                    .forEach(workerTask -> workerJobsByGroup
+                        .computeIfAbsent(workerGroupService.resolveGroupFromJob(workerTask), k -> new ArrayList<>())
+                        .add(workerTask)
+                    );
+                workerJobsByGroup.forEach(workerTaskQueue::emitBatch);
 
                 // WorkerTask flowable to workerTaskResult as Running
-                workerTasksDedup
+                List<WorkerTaskResult> flowableWorkerTaskResults = workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isFlowable())
                     .map(workerTask -> new WorkerTaskResult(workerTask.withTaskRun(workerTask.getTaskRun().withState(State.Type.RUNNING))))
-                    .forEach(workerTaskResultQueue::emit);
+                    .toList();
+                workerTaskResultQueue.emitBatch(flowableWorkerTaskResults);
             }
 
             // worker tasks results
             if (!executor.getWorkerTaskResults().isEmpty()) {
-                executor.getWorkerTaskResults()
-                    .forEach(workerTaskResultQueue::emit);
+                workerTaskResultQueue.emitBatch(executor.getWorkerTaskResults());
             }
 
             // subflow execution results
             if (!executor.getSubflowExecutionResults().isEmpty()) {
-                executor.getSubflowExecutionResults()
-                    .forEach(subflowExecutionResultQueue::emit);
+                subflowExecutionResultQueue.emitBatch(executor.getSubflowExecutionResults());
             }
 
             // schedulerDelay
@@ -439,6 +495,8 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     .filter(subflowExecution -> this.deduplicateSubflowExecution(execution, executorState, subflowExecution.getParentTaskRun()))
                     .toList();
 
+                List<LogEntry> subflowLogs = new ArrayList<>();
+                List<Execution> subflowExecutions = new ArrayList<>();
                 subflowExecutionDedup
                     .forEach(subflowExecution -> {
                         String log = "Create new execution for flow '" +
@@ -448,7 +506,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
                         JdbcExecutor.log.info(log);
 
-                        logQueue.emit(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
+                        subflowLogs.add(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
                             .level(Level.INFO)
                             .message(log)
                             .timestamp(subflowExecution.getParentTaskRun().getState().getStartDate())
@@ -456,13 +514,17 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                             .build()
                         );
 
-                        executionQueue.emit(subflowExecution.getExecution());
-
-                        // send a running worker task result to track running vs created status
-                        if (subflowExecution.getParentTask().waitForExecution()) {
-                            sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
-                        }
+                        subflowExecutions.add(subflowExecution.getExecution());
                     });
+
+                logQueue.emitBatch(subflowLogs);
+                executionQueue.emitBatch(subflowExecutions);
+
+                // send a running worker task result to track running vs created status
+                subflowExecutionDedup
+                    .stream()
+                    .filter(subflowExecution -> subflowExecution.getParentTask().waitForExecution())
+                    .forEach(subflowExecution -> sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun()));
             }
 
             return Pair.of(
@@ -477,7 +539,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     }
 
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
-        Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
+        Flow workerTaskFlow = this.findFlow(execution);
 
         ExecutableTask<?> executableTask = subflowExecution.getParentTask();
 
@@ -505,33 +567,64 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         }
     }
 
-    private void workerTaskResultQueue(Either<WorkerTaskResult, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage());
-            return;
-        }
+    private void workerTaskResultQueue(List<Either<WorkerTaskResult, DeserializationException>> eithers) {
+        // results of the same execution received in the same batch are joined under a single lock
+        Map<String, List<WorkerTaskResult>> messagesByExecution = new LinkedHashMap<>();
 
-        WorkerTaskResult message = either.getLeft();
-        if (skipExecutionService.skipExecution(message.getTaskRun().getExecutionId())) {
-            log.warn("Skipping execution {}", message.getTaskRun().getExecutionId());
-            return;
-        }
+        eithers.forEach(either -> {
+            if (either.isRight()) {
+                log.error("Unable to deserialize a worker task result: {}", either.getRight().getMessage());
+                return;
+            }
 
-        if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
-        }
+            WorkerTaskResult message = either.getLeft();
+            if (skipExecutionService.skipExecution(message.getTaskRun().getExecutionId())) {
+                log.warn("Skipping execution {}", message.getTaskRun().getExecutionId());
+                return;
+            }
 
-        Executor executor = executionRepository.lock(message.getTaskRun().getExecutionId(), pair -> {
+            if (log.isDebugEnabled()) {
+                executorService.log(log, true, message);
+            }
+
+            messagesByExecution
+                .computeIfAbsent(message.getTaskRun().getExecutionId(), k -> new ArrayList<>())
+                .add(message);
+        });
+
+        messagesByExecution.forEach(this::workerTaskResults);
+    }
+
+    private void workerTaskResults(String executionId, List<WorkerTaskResult> messages) {
+        Executor executor = executionRepository.lock(executionId, pair -> {
             Execution execution = pair.getLeft();
             Executor current = new Executor(execution, null);
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getTaskRun().getExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + executionId + ", receive " + messages);
             }
 
-            if (execution.hasTaskRunJoinable(message.getTaskRun())) {
+            Flow flow = null;
+            boolean joined = false;
+            boolean failed = false;
+
+            for (WorkerTaskResult message : messages) {
+                if (failed) {
+                    // the execution is failed, the next results are not joined on it but their task runs are ended
+                    this.workerTaskResultEnded(message);
+                    continue;
+                }
+
+                if (!current.getExecution().hasTaskRunJoinable(message.getTaskRun())) {
+                    continue;
+                }
+
+                joined = true;
+
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    if (flow == null) {
+                        flow = this.findFlow(current.getExecution());
+                    }
 
                     // dynamic tasks
                     Execution newExecution = executorService.addDynamicTaskRun(
@@ -552,34 +645,15 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     }
                     current = current.withExecution(newExecution, "joinWorkerResult");
 
-                    // send metrics on terminated
-                    if (taskRun.getState().isTerminated()) {
-                        metricRegistry
-                            .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, metricRegistry.tags(message))
-                            .increment();
-
-                        metricRegistry
-                            .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, metricRegistry.tags(message))
-                            .record(taskRun.getState().getDuration());
-
-                        log.trace("TaskRun terminated: {}", taskRun);
-                        workerJobRunningRepository.deleteByKey(taskRun.getId());
-                    }
-
-                    // join worker result
-                    return Pair.of(
-                        current,
-                        pair.getRight()
-                    );
+                    this.workerTaskResultEnded(message);
                 } catch (InternalException e) {
-                    return Pair.of(
-                        handleFailedExecutionFromExecutor(current, e),
-                        pair.getRight()
-                    );
+                    current = handleFailedExecutionFromExecutor(current, e);
+                    failed = true;
                 }
             }
 
-            return null;
+            // join worker results
+            return joined ? Pair.of(current, pair.getRight()) : null;
         });
 
         if (executor != null) {
@@ -587,6 +661,24 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         }
     }
 
+    private void workerTaskResultEnded(WorkerTaskResult message) {
+        TaskRun taskRun = message.getTaskRun();
+
+        // send metrics on terminated
+        if (taskRun.getState().isTerminated()) {
+            metricRegistry
+                .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, metricRegistry.tags(message))
+                .increment();
+
+            metricRegistry
+                .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, metricRegistry.tags(message))
+                .record(taskRun.getState().getDuration());
+
+            log.trace("TaskRun terminated: {}", taskRun);
+            workerJobRunningRepository.deleteByKey(taskRun.getId());
+        }
+    }
+
     private void subflowExecutionResultQueue(Either<SubflowExecutionResult, DeserializationException> either) {
         if (either.isRight()) {
             log.error("Unable to deserialize a subflow execution result: {}", either.getRight().getMessage());
@@ -617,7 +709,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
             if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // iterative tasks
                     Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
@@ -780,8 +872,9 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         if (executor.getFlow() != null && conditionService.isTerminatedWithListeners(executor.getFlow(), executor.getExecution())) {
             Execution execution = executor.getExecution();
             // handle flow triggers
-            flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows, Optional.of(multipleConditionStorage))
-                .forEach(this.executionQueue::emit);
+            this.executionQueue.emitBatch(
+                flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows, Optional.of(multipleConditionStorage))
+            );
 
             // purge subflow execution storage
             subflowExecutionStorage.get(execution.getId())
@@ -805,6 +898,49 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         }
     }
 
+    /**
+     * Find the flow of an execution, with its templates and task defaults injected.
+     * As flow revisions are immutable, the resolved flows are cached until the flow is updated or deleted.
+     */
+    private Flow findFlow(Execution execution) {
+        if (this.flowCache == null) {
+            return transform(this.flowRepository.findByExecution(execution), execution);
+        }
+
+        FlowCacheKey key = new FlowCacheKey(execution.getTenantId(), execution.getNamespace(), execution.getFlowId(), execution.getFlowRevision());
+        Flow cached = this.flowCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Flow flow = this.flowRepository.findByExecution(execution);
+
+        // templates can be updated without a new revision of the flow
+        if (templateExecutorInterface.isPresent() && flow.allTasksWithChilds().stream().anyMatch(task -> task instanceof Template)) {
+            return transform(flow, execution);
+        }
+
+        Flow resolved;
+        try {
+            resolved = taskDefaultService.injectDefaults(flow);
+        } catch (Exception e) {
+            // not cached, so the failure is logged on each execution
+            return taskDefaultService.injectDefaults(flow, execution);
+        }
+
+        this.flowCache.put(key, resolved);
+
+        return resolved;
+    }
+
+    private record FlowCacheKey(String tenantId, String namespace, String id, Integer revision) {
+        boolean isFor(Flow flow) {
+            return Objects.equals(this.tenantId, flow.getTenantId()) &&
+                this.namespace.equals(flow.getNamespace()) &&
+                this.id.equals(flow.getId());
+        }
+    }
+
     private Flow transform(Flow flow, Execution execution) {
         if (templateExecutorInterface.isPresent()) {
             try {
@@ -931,7 +1067,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         Execution.FailedExecutionWithLog failedExecutionWithLog = executor.getExecution().failedExecutionFromExecutor(e);
 
         try {
-            failedExecutionWithLog.getLogs().forEach(logQueue::emitAsync);
+            logQueue.emitBatch(failedExecutionWithLog.getLogs());
         } catch (Exception ex) {
             log.error("Failed to produce {}", e.getMessage(), ex);
         }
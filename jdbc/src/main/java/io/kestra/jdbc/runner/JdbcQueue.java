@@ -3,7 +3,11 @@ package io.kestra.jdbc.runner;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
+import com.google.common.collect.Lists;
 import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.BatchingQueueEmitter;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.QueueService;
@@ -20,8 +24,10 @@ import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Field;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.JSONB;
 import org.jooq.Record;
 import org.jooq.Result;
@@ -29,11 +35,15 @@ import org.jooq.Table;
 import org.jooq.impl.DSL;
 
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,13 +51,17 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
 @Slf4j
 public abstract class JdbcQueue<T> implements QueueInterface<T> {
     protected static final ObjectMapper MAPPER = JdbcMapper.of();
 
-    private final ExecutorService poolExecutor;
+    private static final String PRODUCER_OFFSET = "__producer";
+
+    protected final ExecutorService poolExecutor;
 
     protected final QueueService queueService;
 
@@ -59,10 +73,16 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     protected final Table<Record> table;
 
+    protected final Table<Record> offsetTable;
+
     protected final JdbcQueueIndexer jdbcQueueIndexer;
 
+    protected final MetricRegistry metricRegistry;
+
     protected volatile boolean isShutdown = false;
 
+    private volatile BatchingQueueEmitter<T> asyncEmitter;
+
     public JdbcQueue(Class<T> cls, ApplicationContext applicationContext) {
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.poolExecutor = executorsUtils.cachedThreadPool("jdbc-queue-" + cls.getSimpleName());
@@ -75,8 +95,12 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         JdbcTableConfigs jdbcTableConfigs = applicationContext.getBean(JdbcTableConfigs.class);
 
         this.table = DSL.table(jdbcTableConfigs.tableConfig("queues").table());
+        this.offsetTable = this.configuration.getConsumerOffsets() ?
+            DSL.table(jdbcTableConfigs.tableConfig("queueoffsets").table()) :
+            null;
 
         this.jdbcQueueIndexer = applicationContext.getBean(JdbcQueueIndexer.class);
+        this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
     @SneakyThrows
@@ -105,10 +129,143 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 jdbcQueueIndexer.accept(context, message);
             }
 
+            this.lockProducer(context);
+
             context
                 .insertInto(table)
                 .set(this.produceFields(consumerGroup, key, message))
                 .execute();
+
+            this.notifyConsumers(context);
+        });
+    }
+
+    /**
+     * With consumer offsets, producers of the same type are serialized until their transaction is committed,
+     * so the offsets are visible in order and a consumer high-watermark can never skip a message.
+     */
+    private void lockProducer(DSLContext context) {
+        if (this.offsetTable != null) {
+            this.lockOffset(context, "", PRODUCER_OFFSET);
+        }
+    }
+
+    /**
+     * Lock the offset row of a consumer, creating it if needed, and return the last consumed offset.
+     * A new consumer starts at the current last offset of the type, so it doesn't replay the messages already in the
+     * queue table (they are only deleted by the cleaner) and only receives the messages emitted after it.
+     */
+    protected Integer lockOffset(DSLContext ctx, String consumerGroup, String consumer) {
+        Integer offset = this.selectOffsetForUpdate(ctx, consumerGroup, consumer);
+
+        if (offset == null) {
+            Integer maxOffset = ctx
+                .select(DSL.max(AbstractJdbcRepository.field("offset")).as("max"))
+                .from(this.table)
+                .where(this.typeCondition())
+                .fetchAny("max", Integer.class);
+
+            ctx.insertInto(this.offsetTable)
+                .set(AbstractJdbcRepository.field("type"), this.cls.getName())
+                .set(AbstractJdbcRepository.field("consumer_group"), consumerGroup)
+                .set(AbstractJdbcRepository.field("consumer"), consumer)
+                .set(AbstractJdbcRepository.field("offset"), maxOffset == null ? 0 : maxOffset)
+                .onDuplicateKeyIgnore()
+                .execute();
+
+            offset = this.selectOffsetForUpdate(ctx, consumerGroup, consumer);
+        }
+
+        return offset;
+    }
+
+    private Integer selectOffsetForUpdate(DSLContext ctx, String consumerGroup, String consumer) {
+        return ctx.select(AbstractJdbcRepository.field("offset"))
+            .from(this.offsetTable)
+            .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()))
+            .and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup))
+            .and(AbstractJdbcRepository.field("consumer").eq(consumer))
+            .forUpdate()
+            .fetchOne(AbstractJdbcRepository.field("offset", Integer.class));
+    }
+
+    protected void updateOffset(DSLContext ctx, String consumerGroup, String consumer, Integer offset) {
+        ctx.update(this.offsetTable)
+            .set(AbstractJdbcRepository.field("offset"), offset)
+            .set(AbstractJdbcRepository.field("updated", Timestamp.class), DSL.currentTimestamp())
+            .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()))
+            .and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup))
+            .and(AbstractJdbcRepository.field("consumer").eq(consumer))
+            .execute();
+    }
+
+    protected Condition typeCondition() {
+        return AbstractJdbcRepository.field("type").eq(this.cls.getName());
+    }
+
+    /**
+     * Fetch the messages after a consumer offset, without locking them as the consumer offset row is already locked.
+     */
+    protected Result<Record> receiveFetchAfterOffset(DSLContext ctx, String consumerGroup, Integer offset, int limit) {
+        var select = ctx.select(
+                AbstractJdbcRepository.field("value"),
+                AbstractJdbcRepository.field("offset")
+            )
+            .from(this.table)
+            .where(this.typeCondition())
+            .and(AbstractJdbcRepository.field("offset").gt(offset));
+
+        if (consumerGroup != null) {
+            select = select.and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup));
+        } else {
+            select = select.and(AbstractJdbcRepository.field("consumer_group").isNull());
+        }
+
+        return select
+            .orderBy(AbstractJdbcRepository.field("offset").asc())
+            .limit(limit)
+            .fetchMany()
+            .get(0);
+    }
+
+    /**
+     * Called in the producing transaction, after the message is inserted.
+     * Subclasses can override it to wake up consumers as soon as the transaction is committed.
+     */
+    protected void notifyConsumers(DSLContext context) {
+    }
+
+    private void produceBatch(String consumerGroup, List<T> messages, Boolean skipIndexer) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("New messages: topic '{}', size {}", this.cls.getName(), messages.size());
+        }
+
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            if (!skipIndexer) {
+                messages.forEach(message -> jdbcQueueIndexer.accept(context, message));
+            }
+
+            this.lockProducer(context);
+
+            // keep the number of bind values per statement under the databases limits
+            for (List<T> partition : Lists.partition(messages, this.configuration.getBatchSize())) {
+                InsertSetMoreStep<Record> insert = null;
+
+                for (T message : partition) {
+                    Map<Field<Object>, Object> fields = this.produceFields(consumerGroup, queueService.key(message), message);
+                    insert = insert == null ? context.insertInto(table).set(fields) : insert.newRecord().set(fields);
+                }
+
+                insert.execute();
+            }
+
+            this.notifyConsumers(context);
         });
     }
 
@@ -123,7 +280,62 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
-        this.emit(consumerGroup, message);
+        if (consumerGroup != null || this.configuration.getAsyncBufferSize() <= 0) {
+            this.emit(consumerGroup, message);
+            return;
+        }
+
+        this.asyncEmitter().emit(message);
+    }
+
+    @Override
+    public void flush() throws QueueException {
+        if (this.asyncEmitter != null) {
+            this.asyncEmitter.flush(this.configuration.getAsyncFlushTimeout());
+        }
+    }
+
+    /**
+     * Messages emitted asynchronously are buffered and sent in batches by a dedicated thread, so producers
+     * (ex: the task logs) don't wait for a transaction on each message.
+     */
+    private BatchingQueueEmitter<T> asyncEmitter() {
+        if (this.asyncEmitter == null) {
+            synchronized (this) {
+                if (this.asyncEmitter == null) {
+                    String type = this.cls.getName();
+
+                    this.asyncEmitter = BatchingQueueEmitter.<T>builder()
+                        .name(type)
+                        .sender(messages -> this.produceBatch(null, messages, false))
+                        .executorService(this.poolExecutor)
+                        .bufferSize(this.configuration.getAsyncBufferSize())
+                        .batchSize(this.configuration.getBatchSize())
+                        .flushInterval(this.configuration.getAsyncFlushInterval())
+                        .overflowPolicy(this.configuration.getAsyncOverflowPolicy())
+                        .sampleRate(this.configuration.getAsyncSampleRate())
+                        .droppable(JdbcQueue::isDebugLog)
+                        .onDropped(message -> this.metricRegistry
+                            .counter(MetricRegistry.QUEUE_ASYNC_DROPPED_COUNT, "type", type)
+                            .increment()
+                        )
+                        .build();
+                }
+            }
+        }
+
+        return this.asyncEmitter;
+    }
+
+    private static boolean isDebugLog(Object message) {
+        return message instanceof LogEntry logEntry &&
+            logEntry.getLevel() != null &&
+            logEntry.getLevel().toInt() <= org.slf4j.event.Level.DEBUG.toInt();
+    }
+
+    @Override
+    public void emitBatch(String consumerGroup, List<T> messages) throws QueueException {
+        this.produceBatch(consumerGroup, messages, false);
     }
 
     @Override
@@ -138,7 +350,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer offset);
 
-    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType);
+    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, String queueType, int limit);
 
     abstract protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, String queueType, List<Integer> offsets);
 
@@ -201,31 +413,130 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
+    /**
+     * Same as {@link #receiveTransaction(String, Class, BiConsumer)} but fetching at most {@code maxSize} messages,
+     * evaluated before each poll. Nothing is fetched while it's not positive.
+     */
+    public Runnable receiveTransaction(String consumerGroup, Class<?> queueType, IntSupplier maxSize, BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer) {
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            consumer,
+            true,
+            () -> Math.min(configuration.getPollSize(), maxSize.getAsInt())
+        );
+    }
+
+    /**
+     * Receive batches of messages and process them on {@code lanes} parallel lanes, messages with the same key are
+     * always given in order to the same lane. The next batch is only fetched once the current one is fully processed.
+     */
+    @Override
+    public Runnable receiveLanes(
+        String consumerGroup,
+        Class<?> queueType,
+        int lanes,
+        Function<T, String> key,
+        Consumer<List<Either<T, DeserializationException>>> consumer
+    ) {
+        if (lanes <= 1) {
+            return this.receiveImpl(
+                consumerGroup,
+                queueType,
+                (dslContext, eithers) -> consumer.accept(eithers),
+                false
+            );
+        }
+
+        return this.receiveImpl(
+            consumerGroup,
+            queueType,
+            (dslContext, eithers) -> {
+                List<List<Either<T, DeserializationException>>> partitions = new ArrayList<>(lanes);
+                for (int i = 0; i < lanes; i++) {
+                    partitions.add(new ArrayList<>());
+                }
+
+                eithers.forEach(either -> {
+                    String partitionKey = either.isLeft() ? key.apply(either.getLeft()) : null;
+                    int lane = partitionKey == null ? 0 : Math.floorMod(partitionKey.hashCode(), lanes);
+
+                    partitions.get(lane).add(either);
+                });
+
+                CompletableFuture<?>[] futures = partitions
+                    .stream()
+                    .filter(partition -> !partition.isEmpty())
+                    .map(partition -> CompletableFuture.runAsync(() -> consumer.accept(partition), poolExecutor))
+                    .toArray(CompletableFuture[]::new);
+
+                try {
+                    CompletableFuture.allOf(futures).join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+
+                    throw e;
+                }
+            },
+            false
+        );
+    }
+
     public Runnable receiveImpl(
         String consumerGroup,
         Class<?> queueType,
         BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
         Boolean inTransaction
+    ) {
+        return this.receiveImpl(consumerGroup, queueType, consumer, inTransaction, configuration::getPollSize);
+    }
+
+    private Runnable receiveImpl(
+        String consumerGroup,
+        Class<?> queueType,
+        BiConsumer<DSLContext, List<Either<T, DeserializationException>>> consumer,
+        Boolean inTransaction,
+        IntSupplier limit
     ) {
         String queueName = queueName(queueType);
+        String consumerGroupOffset = consumerGroup != null ? consumerGroup : "";
+
+        if (this.offsetTable != null) {
+            // create the offset before the first poll, so the messages emitted once we return are never skipped
+            dslContextWrapper.transaction(configuration -> this.lockOffset(DSL.using(configuration), consumerGroupOffset, queueName));
+        }
 
         return this.poll(() -> {
+            int size = limit.getAsInt();
+            if (size <= 0) {
+                return 0;
+            }
+
             Result<Record> fetch = dslContextWrapper.transactionResult(configuration -> {
                 DSLContext ctx = DSL.using(configuration);
 
-                Result<Record> result = this.receiveFetch(ctx, consumerGroup, queueName);
+                Result<Record> result;
+                if (this.offsetTable != null) {
+                    Integer offset = this.lockOffset(ctx, consumerGroupOffset, queueName);
+                    result = this.receiveFetchAfterOffset(ctx, consumerGroup, offset, size);
+                } else {
+                    result = this.receiveFetch(ctx, consumerGroup, queueName, size);
+                }
 
                 if (!result.isEmpty()) {
                     if (inTransaction) {
                         consumer.accept(ctx, this.map(result));
                     }
 
-                    this.updateGroupOffsets(
-                        ctx,
-                        consumerGroup,
-                        queueName,
-                        result.map(record -> record.get("offset", Integer.class))
-                    );
+                    List<Integer> offsets = result.map(record -> record.get("offset", Integer.class));
+
+                    if (this.offsetTable != null) {
+                        this.updateOffset(ctx, consumerGroupOffset, queueName, offsets.get(offsets.size() - 1));
+                    } else {
+                        this.updateGroupOffsets(ctx, consumerGroup, queueName, offsets);
+                    }
                 }
 
                 return result;
@@ -254,6 +565,8 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
         poolExecutor.execute(() -> {
             while (running.get() && !this.isShutdown) {
+                long sequence = this.pollSequence();
+
                 try {
                     Integer count = runnable.get();
                     if (count > 0) {
@@ -271,7 +584,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 }
 
                 try {
-                    Thread.sleep(sleep.get());
+                    this.pollWait(sequence, sleep.get());
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -283,6 +596,22 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         };
     }
 
+    /**
+     * Return a marker of the messages already seen, taken before each fetch, and given back to {@link #pollWait(long, long)}.
+     * Subclasses that can be notified of new messages must return a value that changes on each notification.
+     */
+    protected long pollSequence() {
+        return 0L;
+    }
+
+    /**
+     * Wait before the next poll, subclasses can override it to be woken up before the end of the sleep when new
+     * messages was produced since the {@code sequence} was taken.
+     */
+    protected void pollWait(long sequence, long sleep) throws InterruptedException {
+        Thread.sleep(sleep);
+    }
+
     protected List<Either<T, DeserializationException>> map(Result<Record> fetch) {
         return fetch
             .map(record -> {
@@ -307,6 +636,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     @Override
     public void close() throws IOException {
         this.isShutdown = true;
+
+        if (this.asyncEmitter != null) {
+            this.asyncEmitter.close();
+        }
+
         poolExecutor.shutdown();
     }
 
@@ -317,5 +651,12 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Duration maxPollInterval = Duration.ofMillis(500);
         Duration pollSwitchInterval = Duration.ofSeconds(30);
         Integer pollSize = 100;
+        Integer batchSize = 500;
+        Boolean consumerOffsets = false;
+        Integer asyncBufferSize = 10000;
+        Duration asyncFlushInterval = Duration.ofMillis(100);
+        Duration asyncFlushTimeout = Duration.ofSeconds(30);
+        BatchingQueueEmitter.OverflowPolicy asyncOverflowPolicy = BatchingQueueEmitter.OverflowPolicy.BLOCK;
+        Integer asyncSampleRate = 10;
     }
 }
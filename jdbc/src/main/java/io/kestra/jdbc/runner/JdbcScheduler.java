@@ -74,7 +74,7 @@ public class JdbcScheduler extends AbstractScheduler {
                         triggerRepository
                             .findByExecution(execution)
                             .ifPresent(trigger -> {
-                                this.triggerState.update(trigger.resetExecution(execution.getState().getCurrent()));
+                                this.scheduleEvaluation(this.triggerState.update(trigger.resetExecution(execution.getState().getCurrent())));
                             });
                     } else {
                         // update execution state on each state change so the scheduler knows the execution is running
@@ -0,0 +1,113 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.Executor;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Tests of the execution cache of the executor lock, implementations must set 'kestra.jdbc.executor.execution-cache-size'.
+ */
+@MicronautTest(transactional = false)
+public abstract class AbstractJdbcExecutionRepositoryCacheTest {
+    @Inject
+    AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void hit() {
+        Execution execution = executionRepository.save(execution());
+        Execution running = update(execution.getId(), State.Type.RUNNING);
+
+        // the execution written by the lock is reused as long as nobody else updated it
+        assertThat(locked(execution.getId()), sameInstance(running));
+        assertThat(locked(execution.getId()), sameInstance(running));
+    }
+
+    @Test
+    void miss() {
+        Execution execution = executionRepository.save(execution());
+        Execution running = update(execution.getId(), State.Type.RUNNING);
+
+        // updated outside the lock
+        executionRepository.save(running.withState(State.Type.PAUSED));
+
+        Execution locked = locked(execution.getId());
+        assertThat(locked, not(sameInstance(running)));
+        assertThat(locked.getState().getCurrent(), is(State.Type.PAUSED));
+    }
+
+    @Test
+    void invalidated() {
+        Execution execution = executionRepository.save(execution());
+        Execution running = update(execution.getId(), State.Type.RUNNING);
+
+        // written by a server without the execution cache
+        executionRepository.jdbcRepository.getDslContextWrapper().transaction(configuration -> DSL.using(configuration)
+            .update(executionRepository.jdbcRepository.getTable())
+            .set(AbstractJdbcRepository.field("value_hash"), (Object) null)
+            .where(AbstractJdbcRepository.field("key").eq(execution.getId()))
+            .execute()
+        );
+
+        Execution locked = locked(execution.getId());
+        assertThat(locked, not(sameInstance(running)));
+        assertThat(locked.getState().getCurrent(), is(State.Type.RUNNING));
+
+        // terminated executions are not kept
+        Execution success = update(execution.getId(), State.Type.SUCCESS);
+        assertThat(locked(execution.getId()), not(sameInstance(success)));
+    }
+
+    private Execution update(String executionId, State.Type state) {
+        Executor executor = executionRepository.lock(executionId, pair -> {
+            Execution updated = pair.getKey().withState(state);
+
+            return Pair.of(new Executor(updated, null), pair.getValue());
+        });
+
+        return executor.getExecution();
+    }
+
+    private Execution locked(String executionId) {
+        AtomicReference<Execution> locked = new AtomicReference<>();
+
+        executionRepository.lock(executionId, pair -> {
+            locked.set(pair.getKey());
+
+            return null;
+        });
+
+        return locked.get();
+    }
+
+    private static Execution execution() {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .flowId("full")
+            .flowRevision(1)
+            .state(new State())
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
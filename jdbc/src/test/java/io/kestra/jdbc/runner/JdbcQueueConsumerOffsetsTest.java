@@ -0,0 +1,95 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.Indexer;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest(transactional = false)
+abstract public class JdbcQueueConsumerOffsetsTest {
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    protected QueueInterface<Flow> flowQueue;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void newConsumer() throws InterruptedException {
+        // emitted before the consumer exists, must not be received
+        flowQueue.emit("consumer_group", builder("io.kestra.f1"));
+
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        flowQueue.receive("consumer_group", Indexer.class, either -> {
+            namespaces.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emit("consumer_group", builder("io.kestra.f2"));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, contains("io.kestra.f2"));
+    }
+
+    @Test
+    void competingConsumers() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(10);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            flowQueue.receive("consumer_group", Indexer.class, either -> {
+                namespaces.add(either.getLeft().getNamespace());
+                countDownLatch.countDown();
+            });
+        }
+
+        flowQueue.emitBatch("consumer_group", IntStream.range(0, 10)
+            .mapToObj(i -> builder("io.kestra.f" + i))
+            .toList()
+        );
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        // leave some time to the other consumer to receive a message twice
+        Thread.sleep(500);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, hasSize(10));
+        assertThat(namespaces.stream().distinct().count(), is(10L));
+    }
+
+    private static Flow builder(String namespace) {
+        return Flow.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .tasks(Collections.singletonList(Return.builder().id("test").type(Return.class.getName()).format("test").build()))
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
@@ -14,11 +14,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
 @MicronautTest(transactional = false)
@@ -134,6 +140,95 @@ abstract public class JdbcQueueTest {
         assertThat(namespace.get(), is("io.kestra.f2"));
     }
 
+    @Test
+    void withBatch() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        flowQueue.receive("consumer_group", Indexer.class, either -> {
+            namespaces.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emitBatch("consumer_group", List.of(
+            builder("io.kestra.f1"),
+            builder("io.kestra.f2"),
+            builder("io.kestra.f3")
+        ));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, contains("io.kestra.f1", "io.kestra.f2", "io.kestra.f3"));
+    }
+
+    @Test
+    void withMaxSize() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+
+        ((JdbcQueue<Flow>) flowQueue).receiveTransaction("consumer_group", Indexer.class, () -> 2, (dslContext, eithers) -> {
+            sizes.add(eithers.size());
+            eithers.forEach(either -> countDownLatch.countDown());
+        });
+
+        flowQueue.emitBatch("consumer_group", List.of(
+            builder("io.kestra.f1"),
+            builder("io.kestra.f2"),
+            builder("io.kestra.f3")
+        ));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(sizes.stream().allMatch(size -> size <= 2), is(true));
+    }
+
+    @Test
+    void withLanes() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(40);
+        Map<String, List<String>> received = new ConcurrentHashMap<>();
+
+        flowQueue.receiveLanes(null, Indexer.class, 4, Flow::getNamespace, eithers -> eithers.forEach(either -> {
+            Flow flow = either.getLeft();
+            received.computeIfAbsent(flow.getNamespace(), k -> new CopyOnWriteArrayList<>()).add(flow.getId());
+            countDownLatch.countDown();
+        }));
+
+        // the namespace is the key, the messages of a namespace must be received in order
+        List<Flow> flows = IntStream.range(0, 40)
+            .mapToObj(i -> builder("io.kestra.f" + (i % 8)).toBuilder().id(String.format("flow%02d", i)).build())
+            .toList();
+        flowQueue.emitBatch(flows);
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(received.size(), is(8));
+        received.values().forEach(ids -> assertThat(ids, is(ids.stream().sorted().toList())));
+    }
+
+    @Test
+    void withAsync() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        flowQueue.receive(either -> {
+            namespaces.add(either.getLeft().getNamespace());
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emitAsync(builder("io.kestra.f1"));
+        flowQueue.emitAsync(builder("io.kestra.f2"));
+        flowQueue.emitAsync(builder("io.kestra.f3"));
+        flowQueue.flush();
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(namespaces, contains("io.kestra.f1", "io.kestra.f2", "io.kestra.f3"));
+    }
+
     private static Flow builder(String namespace) {
         return Flow.builder()
             .id(IdUtils.create())
@@ -0,0 +1,51 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.repositories.LocalFlowRepositoryLoader;
+import io.kestra.core.runners.StandAloneRunner;
+import io.kestra.core.tasks.flows.ForEachItemCaseTest;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junitpioneer.jupiter.RetryingTest;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the flows whose tasks read the outputs from their code, and not from an expression, with only the referenced
+ * outputs sent to the worker: implementations must enable 'kestra.executor.worker-task.referenced-outputs-only'.
+ */
+@MicronautTest(transactional = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS) // must be per-class to allow calling once init() which took a lot of time
+public abstract class JdbcReferencedOutputsOnlyRunnerTest {
+    @Inject
+    private StandAloneRunner runner;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    protected LocalFlowRepositoryLoader repositoryLoader;
+
+    @Inject
+    private ForEachItemCaseTest forEachItemCaseTest;
+
+    @BeforeAll
+    void init() throws IOException, URISyntaxException {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+
+        TestsUtils.loads(repositoryLoader);
+        runner.setSchedulerEnabled(false);
+        runner.run();
+    }
+
+    @RetryingTest(5)
+    void forEachItemSubflowOutputs() throws URISyntaxException, IOException, InterruptedException, TimeoutException {
+        forEachItemCaseTest.forEachItemWithSubflowOutputs();
+    }
+}
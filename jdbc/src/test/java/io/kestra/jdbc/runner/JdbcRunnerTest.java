@@ -3,18 +3,30 @@ package io.kestra.jdbc.runner;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.flows.State;
+import io.kestra.core.models.flows.TaskDefault;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.repositories.LocalFlowRepositoryLoader;
 import io.kestra.core.runners.*;
+import io.kestra.core.services.TaskDefaultService;
+import io.kestra.core.tasks.debugs.Return;
 import io.kestra.core.tasks.flows.*;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.jooq.impl.DSL;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -23,6 +35,8 @@ import org.junitpioneer.jupiter.RetryingTest;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
@@ -82,6 +96,28 @@ public abstract class JdbcRunnerTest {
     @Inject
     private RetryCaseTest retryCaseTest;
 
+    @Inject
+    private ExecutionRepositoryInterface executionRepository;
+
+    @Inject
+    private FlowRepositoryInterface flowRepository;
+
+    @Inject
+    private TaskDefaultService taskDefaultService;
+
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKRESULT_NAMED)
+    private QueueInterface<WorkerTaskResult> workerTaskResultQueue;
+
+    @Inject
+    private AbstractJdbcWorkerJobRunningRepository workerJobRunningRepository;
+
+    @Inject
+    private JooqDSLContextWrapper dslContextWrapper;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
     @BeforeAll
     void init() throws IOException, URISyntaxException {
         jdbcTestUtils.drop();
@@ -101,6 +137,137 @@ public abstract class JdbcRunnerTest {
         assertThat((String) execution.findTaskRunsByTaskId("t2").get(0).getOutputs().get("value"), containsString("value1"));
     }
 
+    @Test
+    void workerTaskResultsOfTheSameExecution() throws TimeoutException {
+        String executionId = IdUtils.create();
+        TaskRun taskRun = TaskRun.builder()
+            .id(IdUtils.create())
+            .executionId(executionId)
+            .namespace("io.kestra.tests")
+            .flowId("minimal")
+            .taskId("date")
+            .state(new State().withState(State.Type.RUNNING))
+            .build();
+
+        executionRepository.save(Execution.builder()
+            .id(executionId)
+            .namespace("io.kestra.tests")
+            .flowId("minimal")
+            .flowRevision(2)
+            .state(new State().withState(State.Type.RUNNING))
+            .taskRunList(List.of(taskRun))
+            .build()
+        );
+
+        // the first result fails the execution as its parent doesn't exist, the next one must not be joined
+        WorkerTaskResult invalid = new WorkerTaskResult(taskRun.toBuilder()
+            .id(IdUtils.create())
+            .parentTaskRunId(IdUtils.create())
+            .state(new State().withState(State.Type.SUCCESS))
+            .build()
+        );
+        WorkerTaskResult valid = new WorkerTaskResult(taskRun.withState(State.Type.SUCCESS));
+
+        Execution execution = runnerUtils.awaitExecution(
+            e -> e.getId().equals(executionId) && e.getState().isTerminated(),
+            () -> workerTaskResultQueue.emitBatch(List.of(invalid, valid)),
+            Duration.ofSeconds(30)
+        );
+
+        assertThat(execution.getState().getCurrent(), is(State.Type.FAILED));
+        assertThat(execution.getTaskRunList(), hasSize(1));
+        assertThat(execution.getTaskRunList().get(0).getState().getCurrent(), is(State.Type.FAILED));
+    }
+
+    @Test
+    void workerTaskResultsAfterAFailedJoin() throws TimeoutException {
+        String executionId = IdUtils.create();
+        TaskRun taskRun = TaskRun.builder()
+            .id(IdUtils.create())
+            .executionId(executionId)
+            .namespace("io.kestra.tests")
+            .flowId("minimal")
+            .taskId("date")
+            .state(new State().withState(State.Type.RUNNING))
+            .build();
+        TaskRun otherTaskRun = taskRun.toBuilder().id(IdUtils.create()).build();
+
+        executionRepository.save(Execution.builder()
+            .id(executionId)
+            .namespace("io.kestra.tests")
+            .flowId("minimal")
+            .flowRevision(2)
+            .state(new State().withState(State.Type.RUNNING))
+            .taskRunList(List.of(taskRun, otherTaskRun))
+            .build()
+        );
+
+        List.of(taskRun, otherTaskRun).forEach(current -> dslContextWrapper.transaction(configuration ->
+            workerJobRunningRepository.save(
+                WorkerTaskRunning.builder()
+                    .workerInstance(WorkerInstance.builder().workerUuid(IdUtils.create()).build())
+                    .partition(0)
+                    .taskRun(current)
+                    .task(Return.builder().id("date").type(Return.class.getName()).build())
+                    .runContext(runContextFactory.of())
+                    .build(),
+                DSL.using(configuration)
+            )
+        ));
+
+        // the results following the one failing the execution are not joined, but their task runs are no longer running
+        WorkerTaskResult invalid = new WorkerTaskResult(taskRun.toBuilder()
+            .id(IdUtils.create())
+            .parentTaskRunId(IdUtils.create())
+            .state(new State().withState(State.Type.SUCCESS))
+            .build()
+        );
+
+        Execution execution = runnerUtils.awaitExecution(
+            e -> e.getId().equals(executionId) && e.getState().isTerminated(),
+            () -> workerTaskResultQueue.emitBatch(List.of(
+                invalid,
+                new WorkerTaskResult(taskRun.withState(State.Type.SUCCESS)),
+                new WorkerTaskResult(otherTaskRun.withState(State.Type.SUCCESS))
+            )),
+            Duration.ofSeconds(30)
+        );
+
+        assertThat(execution.getState().getCurrent(), is(State.Type.FAILED));
+        assertThat(workerJobRunningRepository.findByKey(taskRun.getId()).isPresent(), is(false));
+        assertThat(workerJobRunningRepository.findByKey(otherTaskRun.getId()).isPresent(), is(false));
+    }
+
+    @Test
+    void flowCache() throws TimeoutException {
+        Flow flow = Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.tests")
+            .tasks(List.of(Return.builder().id("return").type(Return.class.getName()).build()))
+            .taskDefaults(List.of(TaskDefault.builder().type(Return.class.getName()).values(Map.of("format", "first")).build()))
+            .build();
+        FlowWithSource created = flowRepository.create(flow, flow.generateSource(), taskDefaultService.injectDefaults(flow));
+
+        // the next executions use the cached flow, with its task defaults already injected
+        for (int i = 0; i < 2; i++) {
+            Execution execution = runnerUtils.runOne(null, flow.getNamespace(), flow.getId(), Duration.ofSeconds(30));
+
+            assertThat(execution.getState().getCurrent(), is(State.Type.SUCCESS));
+            assertThat(execution.getTaskRunList().get(0).getOutputs().get("value"), is("first"));
+        }
+
+        // a new revision of the flow is resolved again
+        Flow updated = flow.toBuilder()
+            .taskDefaults(List.of(TaskDefault.builder().type(Return.class.getName()).values(Map.of("format", "second")).build()))
+            .build();
+        flowRepository.update(updated, created, updated.generateSource(), taskDefaultService.injectDefaults(updated));
+
+        Execution execution = runnerUtils.runOne(null, flow.getNamespace(), flow.getId(), Duration.ofSeconds(30));
+
+        assertThat(execution.getFlowRevision(), is(2));
+        assertThat(execution.getTaskRunList().get(0).getOutputs().get("value"), is("second"));
+    }
+
     @Test
     void logs() throws TimeoutException {
         Execution execution = runnerUtils.runOne(null, "io.kestra.tests", "logs", null, null, Duration.ofSeconds(60));
@@ -96,6 +96,11 @@ public class MemoryQueue<T> implements QueueInterface<T> {
         this.emit(message);
     }
 
+    @Override
+    public void emitBatch(String consumerGroup, List<T> messages) throws QueueException {
+        messages.forEach(message -> this.produce(queueService.key(message), message));
+    }
+
     @Override
     public void delete(String consumerGroup, T message) throws QueueException {
         this.produce(queueService.key(message), null);
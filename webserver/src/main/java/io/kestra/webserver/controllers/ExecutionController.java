@@ -15,7 +15,6 @@ import io.kestra.core.models.flows.State;
 import io.kestra.core.models.hierarchies.FlowGraph;
 import io.kestra.core.models.storage.FileMetas;
 import io.kestra.core.models.tasks.Task;
-import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.types.Webhook;
 import io.kestra.core.models.validations.ManualConstraintViolation;
 import io.kestra.core.queues.QueueFactoryInterface;
@@ -32,9 +31,13 @@ import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.Await;
+import io.kestra.webserver.models.BulkOperation;
 import io.kestra.webserver.responses.BulkErrorResponse;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.BulkOperationService;
+import io.kestra.webserver.services.FollowService;
+import io.kestra.webserver.services.WebhookRouter;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.RequestUtils;
 import io.kestra.webserver.utils.filepreview.FileRender;
@@ -97,6 +100,7 @@ import java.time.ZonedDateTime;
 import java.util.*;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.throwBiFunction;
@@ -139,6 +143,15 @@ public class ExecutionController {
     @Named(QueueFactoryInterface.KILL_NAMED)
     protected QueueInterface<ExecutionKilled> killQueue;
 
+    @Inject
+    private FollowService followService;
+
+    @Inject
+    private BulkOperationService bulkOperationService;
+
+    @Inject
+    private WebhookRouter webhookRouter;
+
     @Inject
     private ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
 
@@ -151,6 +164,9 @@ public class ExecutionController {
     @Value("${kestra.server.preview.max-rows:5000}")
     private Integer maxPreviewRows;
 
+    @Value("${kestra.server.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
     @Inject
     private TenantService tenantService;
 
@@ -372,10 +388,8 @@ public class ExecutionController {
                 childFilter
             )
             .filter(it -> it.getState().isTerminated() || includeNonTerminated)
-            .map(e -> {
-                executionRepository.delete(e);
-                return 1;
-            })
+            .buffer(this.bulkChunkSize)
+            .map(chunk -> executionRepository.delete(chunk).size())
             .reduce(Integer::sum)
             .blockOptional()
             .orElse(0);
@@ -440,7 +454,9 @@ public class ExecutionController {
         String key,
         HttpRequest<String> request
     ) {
-        Optional<Flow> find = flowRepository.findById(tenantService.resolveTenant(), namespace, id);
+        String tenantId = tenantService.resolveTenant();
+        Optional<Flow> find = webhookRouter.flow(tenantId, namespace, id)
+            .or(() -> flowRepository.findById(tenantId, namespace, id));
         return webhook(find, key, request);
     }
 
@@ -462,23 +478,7 @@ public class ExecutionController {
             throw new IllegalStateException("Cannot execute an invalid flow: " + fwe.getException());
         }
 
-        Optional<Webhook> webhook = (flow.getTriggers() == null ? new ArrayList<AbstractTrigger>() : flow
-            .getTriggers())
-            .stream()
-            .filter(o -> o instanceof Webhook)
-            .map(o -> (Webhook) o)
-            .filter(w -> {
-                RunContext runContext = runContextFactory.of(flow, w);
-                try {
-                    String webhookKey = runContext.render(w.getKey()).trim();
-                    return webhookKey.equals(key);
-                } catch (IllegalVariableEvaluationException e) {
-                    // be conservative, don't crash but filter the webhook
-                    log.warn("Unable to render the webhook key {}, the webhook will be ignored", key, e);
-                    return false;
-                }
-            })
-            .findFirst();
+        Optional<Webhook> webhook = webhookRouter.webhook(flow, key);
 
         if (webhook.isEmpty()) {
             return HttpResponse.notFound();
@@ -496,12 +496,15 @@ public class ExecutionController {
         }
 
         // we check conditions here as it's easier as the execution is created we have the body and headers available for the runContext
-        var conditionContext = conditionService.conditionContext(runContextFactory.of(flow, result), flow, result);
-        if (!conditionService.isValid(flow, webhook.get(), conditionContext)) {
-            return HttpResponse.noContent();
+        if (webhook.get().getConditions() != null && !webhook.get().getConditions().isEmpty()) {
+            var conditionContext = conditionService.conditionContext(runContextFactory.of(flow, result), flow, result);
+            if (!conditionService.isValid(flow, webhook.get(), conditionContext)) {
+                return HttpResponse.noContent();
+            }
         }
 
-        executionQueue.emit(result);
+        // only answer once the execution is stored, a failure is an error for the caller that can retry
+        webhookRouter.emit(result);
         eventPublisher.publishEvent(new CrudEvent<>(result, CrudEventType.CREATE));
 
         return HttpResponse.ok(result);
@@ -569,14 +572,8 @@ public class ExecutionController {
 
         return Mono
             .<Execution>create(emitter -> {
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution item = either.getLeft();
-                    if (item.getId().equals(current.getId()) && this.isStopFollow(found, item)) {
+                Runnable receive = this.followService.followExecution(current.getId(), item -> {
+                    if (this.isStopFollow(found, item)) {
                         emitter.success(item);
                     }
                 });
@@ -1182,6 +1179,80 @@ public class ExecutionController {
         return HttpResponse.ok(BulkResponse.builder().count(executions.size()).build());
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Post(uri = "/bulk/{type}")
+    @Operation(tags = {"Executions"}, summary = "Start a bulk operation in the background on the executions filter by query parameters")
+    public BulkOperation bulkByQuery(
+        @Parameter(description = "The operation to apply") @PathVariable BulkOperation.Type type,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "A time range filter relative to the current time", examples = {
+            @ExampleObject(name = "Filter last 5 minutes", value = "PT5M"),
+            @ExampleObject(name = "Filter last 24 hours", value = "P1D")
+        }) @Nullable @QueryValue Duration timeRange,
+        @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
+        @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue List<String> labels,
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter,
+        @Parameter(description = "Specificies whether to delete non-terminated executions") @Nullable @QueryValue(defaultValue = "false") boolean includeNonTerminated
+    ) {
+        String tenantId = tenantService.resolveTenant();
+        ZonedDateTime resolvedStartDate = resolveAbsoluteDateTime(startDate, timeRange, ZonedDateTime.now());
+        Map<String, String> labelsMap = RequestUtils.toMap(labels);
+
+        Predicate<Execution> filter = switch (type) {
+            case DELETE -> execution -> execution.getState().isTerminated() || includeNonTerminated;
+            case KILL -> execution -> !execution.getState().isTerminated();
+            case RESTART -> execution -> execution.getState().isFailed();
+            case REPLAY -> execution -> true;
+        };
+
+        return bulkOperationService.submit(
+            type,
+            tenantId,
+            filter,
+            (afterId, size) -> executionRepository.findAfter(
+                afterId,
+                size,
+                query,
+                tenantId,
+                namespace,
+                flowId,
+                resolvedStartDate,
+                endDate,
+                state,
+                labelsMap,
+                triggerExecutionId,
+                childFilter
+            )
+        );
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/bulk/{operationId}")
+    @Operation(tags = {"Executions"}, summary = "Get the progress of a bulk operation")
+    public BulkOperation bulkOperation(
+        @Parameter(description = "The bulk operation id") @PathVariable String operationId
+    ) {
+        return bulkOperationService
+            .get(tenantService.resolveTenant(), operationId)
+            .orElse(null);
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Delete(uri = "/bulk/{operationId}")
+    @Operation(tags = {"Executions"}, summary = "Cancel a running bulk operation")
+    public BulkOperation cancelBulkOperation(
+        @Parameter(description = "The bulk operation id") @PathVariable String operationId
+    ) {
+        return bulkOperationService
+            .cancel(tenantService.resolveTenant(), operationId)
+            .orElse(null);
+    }
+
     private boolean isStopFollow(Flow flow, Execution execution) {
         return conditionService.isTerminatedWithListeners(flow, execution) &&
             execution.getState().getCurrent() != State.Type.PAUSED;
@@ -1228,26 +1299,18 @@ public class ExecutionController {
                 emitter.next(Event.of(execution).id("progress"));
 
                 // consume new value
-                Runnable receive = this.executionQueue.receive(either -> {
-                    if (either.isRight()) {
-                        log.error("Unable to deserialize the execution: {}", either.getRight().getMessage());
-                        return;
-                    }
-
-                    Execution current = either.getLeft();
-                    if (current.getId().equals(executionId)) {
-
-                        emitter.next(Event.of(current).id("progress"));
+                Runnable receive = this.followService.followExecution(executionId, current -> {
+                    emitter.next(Event.of(current).id("progress"));
 
-                        if (this.isStopFollow(flow, current)) {
-                            emitter.next(Event.of(current).id("end"));
-                            emitter.complete();
-                        }
+                    if (this.isStopFollow(flow, current)) {
+                        emitter.next(Event.of(current).id("end"));
+                        emitter.complete();
                     }
                 });
 
                 cancel.set(receive);
             }, FluxSink.OverflowStrategy.BUFFER)
+            .transform(followService::bounded)
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
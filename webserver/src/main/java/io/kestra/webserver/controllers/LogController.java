@@ -1,11 +1,10 @@
 package io.kestra.webserver.controllers;
 
 import io.kestra.core.models.executions.LogEntry;
-import io.kestra.core.queues.QueueFactoryInterface;
-import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.tenant.TenantService;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.FollowService;
 import io.kestra.webserver.utils.PageableUtils;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.annotation.Nullable;
@@ -20,7 +19,6 @@ import io.micronaut.validation.Validated;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.inject.Inject;
-import jakarta.inject.Named;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -40,8 +38,7 @@ public class LogController {
     private LogRepositoryInterface logRepository;
 
     @Inject
-    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
-    protected QueueInterface<LogEntry> logQueue;
+    private FollowService followService;
 
     @Inject
     private TenantService tenantService;
@@ -132,21 +129,15 @@ public class LogController {
                     .forEach(logEntry -> emitter.next(Event.of(logEntry).id("progress")));
 
                 // consume in realtime
-                Runnable receive = this.logQueue.receive(either -> {
-                    if (either.isRight()) {
-                        return;
-                    }
-
-                    LogEntry current = either.getLeft();
-                    if (current.getExecutionId() != null && current.getExecutionId().equals(executionId)) {
-                        if (levels.contains(current.getLevel().name())) {
-                            emitter.next(Event.of(current).id("progress"));
-                        }
+                Runnable receive = this.followService.followLogs(executionId, current -> {
+                    if (levels.contains(current.getLevel().name())) {
+                        emitter.next(Event.of(current).id("progress"));
                     }
                 });
 
                 cancel.set(receive);
             }, FluxSink.OverflowStrategy.BUFFER)
+            .transform(followService::bounded)
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -0,0 +1,85 @@
+package io.kestra.webserver.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.kestra.core.utils.IdUtils;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A bulk operation on the executions matching a query, running in the background.
+ * The counters are updated as the chunks of executions are processed, so it can be polled to follow the progress.
+ */
+@Getter
+@NoArgsConstructor
+public class BulkOperation {
+    private String id;
+    private Type type;
+    private String tenantId;
+    private Instant startDate;
+    private volatile Instant updateDate;
+    private volatile Instant endDate;
+    private volatile Status status;
+    private volatile String message;
+
+    /**
+     * The number of executions processed successfully
+     */
+    private volatile int count;
+
+    /**
+     * The number of executions that failed to be processed
+     */
+    private volatile int errors;
+
+    public BulkOperation(Type type, String tenantId) {
+        this.id = IdUtils.create();
+        this.type = type;
+        this.tenantId = tenantId;
+        this.startDate = Instant.now();
+        this.updateDate = this.startDate;
+        this.status = Status.RUNNING;
+    }
+
+    public synchronized void processed(int count, int errors) {
+        this.count += count;
+        this.errors += errors;
+        this.updateDate = Instant.now();
+    }
+
+    /**
+     * @return false if the operation had already ended
+     */
+    public synchronized boolean end(Status status, String message) {
+        if (this.status != Status.RUNNING) {
+            return false;
+        }
+
+        this.status = status;
+        this.message = message;
+        this.endDate = Instant.now();
+        this.updateDate = this.endDate;
+
+        return true;
+    }
+
+    @JsonIgnore
+    public boolean isRunning() {
+        return this.status == Status.RUNNING;
+    }
+
+    public enum Type {
+        DELETE,
+        KILL,
+        RESTART,
+        REPLAY
+    }
+
+    public enum Status {
+        RUNNING,
+        SUCCESS,
+        FAILED,
+        CANCELLED
+    }
+}
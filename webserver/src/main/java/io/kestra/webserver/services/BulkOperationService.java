@@ -0,0 +1,316 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.events.CrudEvent;
+import io.kestra.core.events.CrudEventType;
+import io.kestra.core.models.Setting;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.ExecutionKilled;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.repositories.SettingRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.services.ExecutionService;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.kestra.core.utils.Rethrow;
+import io.kestra.webserver.models.BulkOperation;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+
+/**
+ * Run the bulk operations on executions in the background, so large operations don't block the HTTP requests.
+ * The executions are fetched by chunks using keyset pagination and each chunk is processed at once: deleted in a single
+ * transaction, or its messages emitted in a single batch. Up to the configured parallelism, chunks are processed
+ * concurrently.
+ * The operations are persisted in the settings, so any webserver can return or cancel them, and removed after the
+ * retention once ended. The webserver running an operation saves its progress after each chunk, and stops it when it was
+ * cancelled by another webserver. An operation still running when its webserver stops is cancelled, and one not updated
+ * for longer than the retention is failed, its webserver being considered as lost.
+ */
+@Singleton
+@Slf4j
+public class BulkOperationService {
+    static final String SETTING_KEY_PREFIX = "kestra.server.bulk-operation.";
+
+    @Inject
+    private ExecutionRepositoryInterface executionRepository;
+
+    @Inject
+    private ExecutionService executionService;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Inject
+    @Named(QueueFactoryInterface.KILL_NAMED)
+    private QueueInterface<ExecutionKilled> killQueue;
+
+    @Inject
+    private ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
+
+    @Inject
+    private SettingRepositoryInterface settingRepository;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    @Value("${kestra.server.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${kestra.server.bulk.parallelism:4}")
+    private int parallelism;
+
+    @Value("${kestra.server.bulk.retention:PT1H}")
+    private Duration retention;
+
+    // the operations running on this webserver
+    private final Map<String, BulkOperation> operations = new ConcurrentHashMap<>();
+    private ExecutorService operationExecutor;
+    private ExecutorService chunkExecutor;
+
+    @PostConstruct
+    void init() {
+        this.operationExecutor = executorsUtils.cachedThreadPool("bulk-operation");
+        this.chunkExecutor = executorsUtils.fixedThreadPool(this.parallelism, "bulk-operation-chunk");
+    }
+
+    /**
+     * Start a bulk operation in the background.
+     *
+     * @param type the operation to apply on the executions
+     * @param tenantId the tenant of the executions
+     * @param filter the executions to process, the others are skipped
+     * @param pager fetch a page of executions, see {@link ExecutionRepositoryInterface#findAfter}
+     * @return the running operation
+     */
+    public BulkOperation submit(BulkOperation.Type type, String tenantId, Predicate<Execution> filter, Pager pager) {
+        this.purgeEnded();
+
+        BulkOperation operation = new BulkOperation(type, tenantId);
+        this.operations.put(operation.getId(), operation);
+        this.save(operation);
+
+        this.operationExecutor.execute(() -> this.run(operation, filter, pager));
+
+        return operation;
+    }
+
+    public Optional<BulkOperation> get(String tenantId, String id) {
+        return Optional.ofNullable(this.operations.get(id))
+            .or(() -> this.find(id))
+            .filter(operation -> Objects.equals(operation.getTenantId(), tenantId));
+    }
+
+    /**
+     * Stop a running operation, the chunks being processed are completed but no new ones are started.
+     * An operation running on another webserver is stopped by it once it sees the operation cancelled.
+     */
+    public Optional<BulkOperation> cancel(String tenantId, String id) {
+        Optional<BulkOperation> operation = this.get(tenantId, id);
+        operation
+            .filter(it -> it.end(BulkOperation.Status.CANCELLED, "Cancelled"))
+            .ifPresent(this::save);
+
+        return operation;
+    }
+
+    private void run(BulkOperation operation, Predicate<Execution> filter, Pager pager) {
+        Semaphore inFlight = new Semaphore(this.parallelism);
+        String afterId = null;
+
+        try {
+            while (this.refresh(operation)) {
+                List<Execution> page = pager.fetch(afterId, this.chunkSize);
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                afterId = page.get(page.size() - 1).getId();
+
+                List<Execution> chunk = page.stream().filter(filter).toList();
+                if (chunk.isEmpty()) {
+                    continue;
+                }
+
+                inFlight.acquire();
+                this.chunkExecutor.execute(() -> {
+                    try {
+                        if (operation.isRunning()) {
+                            this.process(operation, chunk);
+                            this.save(operation);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+
+            // wait for the last chunks to be processed
+            inFlight.acquire(this.parallelism);
+            operation.end(BulkOperation.Status.SUCCESS, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            operation.end(BulkOperation.Status.FAILED, "Interrupted");
+        } catch (Exception e) {
+            log.error("Bulk {} operation '{}' failed", operation.getType(), operation.getId(), e);
+            operation.end(BulkOperation.Status.FAILED, e.getMessage());
+        } finally {
+            this.operations.remove(operation.getId());
+            this.save(operation);
+        }
+    }
+
+    private void process(BulkOperation operation, List<Execution> chunk) {
+        try {
+            switch (operation.getType()) {
+                case DELETE -> {
+                    this.executionRepository.delete(chunk);
+                    operation.processed(chunk.size(), 0);
+                }
+                case KILL -> {
+                    this.killQueue.emitBatch(chunk
+                        .stream()
+                        .map(execution -> ExecutionKilled
+                            .builder()
+                            .state(ExecutionKilled.State.REQUESTED)
+                            .executionId(execution.getId())
+                            .isOnKillCascade(false)
+                            .tenantId(operation.getTenantId())
+                            .build()
+                        )
+                        .toList()
+                    );
+                    operation.processed(chunk.size(), 0);
+                }
+                case RESTART -> this.emit(operation, chunk, execution -> executionService.restart(execution, null), CrudEventType.UPDATE);
+                case REPLAY -> this.emit(operation, chunk, execution -> executionService.replay(execution, null, null), CrudEventType.CREATE);
+            }
+        } catch (Exception e) {
+            log.warn("Unable to process a chunk of {} executions of the bulk {} operation '{}'", chunk.size(), operation.getType(), operation.getId(), e);
+            operation.processed(0, chunk.size());
+        }
+    }
+
+    private void emit(
+        BulkOperation operation,
+        List<Execution> chunk,
+        Rethrow.FunctionChecked<Execution, Execution, Exception> function,
+        CrudEventType eventType
+    ) {
+        List<Execution> executions = new ArrayList<>(chunk.size());
+
+        for (Execution execution : chunk) {
+            try {
+                executions.add(function.apply(execution));
+            } catch (Exception e) {
+                log.debug("Unable to {} the execution '{}'", operation.getType(), execution.getId(), e);
+            }
+        }
+
+        this.executionQueue.emitBatch(executions);
+        executions.forEach(execution -> eventPublisher.publishEvent(new CrudEvent<>(execution, eventType)));
+
+        operation.processed(executions.size(), chunk.size() - executions.size());
+    }
+
+    private Optional<BulkOperation> find(String id) {
+        return this.settingRepository
+            .findByKey(SETTING_KEY_PREFIX + id)
+            .map(setting -> JacksonMapper.toMap(setting.getValue(), BulkOperation.class));
+    }
+
+    /**
+     * Stop the operation if it was cancelled by another webserver.
+     *
+     * @return whether the operation is still running
+     */
+    private boolean refresh(BulkOperation operation) {
+        if (operation.isRunning()) {
+            this.find(operation.getId())
+                .filter(persisted -> persisted.getStatus() == BulkOperation.Status.CANCELLED)
+                .ifPresent(persisted -> operation.end(BulkOperation.Status.CANCELLED, persisted.getMessage()));
+        }
+
+        return operation.isRunning();
+    }
+
+    private void save(BulkOperation operation) {
+        // the saves of the concurrent chunks are serialized, so a save never overwrites a more recent progress
+        synchronized (operation) {
+            try {
+                this.refresh(operation);
+
+                this.settingRepository.save(Setting.builder()
+                    .key(SETTING_KEY_PREFIX + operation.getId())
+                    .value(operation)
+                    .build()
+                );
+            } catch (Exception e) {
+                log.warn("Unable to save the bulk {} operation '{}'", operation.getType(), operation.getId(), e);
+            }
+        }
+    }
+
+    private void purgeEnded() {
+        Instant limit = Instant.now().minus(this.retention);
+
+        try {
+            this.settingRepository
+                .findAll()
+                .stream()
+                .filter(setting -> setting.getKey().startsWith(SETTING_KEY_PREFIX))
+                .forEach(setting -> {
+                    BulkOperation operation = JacksonMapper.toMap(setting.getValue(), BulkOperation.class);
+
+                    if (operation.getEndDate() != null && operation.getEndDate().isBefore(limit)) {
+                        this.settingRepository.delete(setting);
+                    } else if (
+                        operation.isRunning() &&
+                            !this.operations.containsKey(operation.getId()) &&
+                            operation.getUpdateDate().isBefore(limit) &&
+                            operation.end(BulkOperation.Status.FAILED, "Lost, the webserver running it stopped")
+                    ) {
+                        this.save(operation);
+                    }
+                });
+        } catch (Exception e) {
+            log.warn("Unable to purge the ended bulk operations", e);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        this.operations.values().forEach(operation -> {
+            if (operation.end(BulkOperation.Status.CANCELLED, "Server shutdown")) {
+                this.save(operation);
+            }
+        });
+        this.operationExecutor.shutdownNow();
+        this.chunkExecutor.shutdown();
+    }
+
+    @FunctionalInterface
+    public interface Pager {
+        List<Execution> fetch(@Nullable String afterId, int size);
+    }
+}
@@ -0,0 +1,70 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Consumer;
+
+/**
+ * Follow the executions and the logs of an execution in realtime, sharing a single queue consumer by type for all the
+ * followers of the webserver, so the load on the queue doesn't depend on the number of followers.
+ */
+@Singleton
+@Slf4j
+public class FollowService {
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    @Value("${kestra.server.follow.buffer-size:1000}")
+    private int bufferSize;
+
+    private QueueFanOut<Execution> executions;
+    private QueueFanOut<LogEntry> logs;
+
+    @PostConstruct
+    void init() {
+        this.executions = new QueueFanOut<>("execution", this.executionQueue, Execution::getId);
+        this.logs = new QueueFanOut<>("log", this.logQueue, LogEntry::getExecutionId);
+    }
+
+    /**
+     * @return a runnable to stop following the execution
+     */
+    public Runnable followExecution(String executionId, Consumer<Execution> consumer) {
+        return this.executions.subscribe(executionId, consumer);
+    }
+
+    /**
+     * @return a runnable to stop following the logs of the execution
+     */
+    public Runnable followLogs(String executionId, Consumer<LogEntry> consumer) {
+        return this.logs.subscribe(executionId, consumer);
+    }
+
+    /**
+     * Bound the buffer of a follower, dropping the oldest events when the client is too slow to consume them, so a slow
+     * client can't hold an unbounded number of events in memory.
+     */
+    public <T> Flux<T> bounded(Flux<T> flux) {
+        return flux.onBackpressureBuffer(
+            this.bufferSize,
+            dropped -> log.debug("Follower too slow, dropping an event"),
+            BufferOverflowStrategy.DROP_OLDEST
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Either;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Share a single consumer of a queue between many subscribers, each one interested in the messages of a given key.
+ * The queue consumer is started with the first subscriber and stopped with the last one, and the messages are
+ * dispatched to the subscribers of their key only.
+ * Subscribers are called from the queue consumer thread, so they must not block.
+ */
+@Slf4j
+public class QueueFanOut<T> {
+    private final String name;
+    private final QueueInterface<T> queue;
+    private final Function<T, String> key;
+    private final Map<String, Set<Consumer<T>>> subscribers = new ConcurrentHashMap<>();
+
+    private int count = 0;
+    private Runnable cancel;
+
+    public QueueFanOut(String name, QueueInterface<T> queue, Function<T, String> key) {
+        this.name = name;
+        this.queue = queue;
+        this.key = key;
+    }
+
+    /**
+     * Subscribe to the messages of a key.
+     *
+     * @return a runnable to unsubscribe, that can be called more than once
+     */
+    public Runnable subscribe(String key, Consumer<T> consumer) {
+        // wrap the consumer, so the same consumer can be subscribed twice
+        Consumer<T> subscriber = consumer::accept;
+
+        synchronized (this) {
+            this.subscribers.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+            if (this.count++ == 0) {
+                this.cancel = this.queue.receive(this::dispatch);
+            }
+        }
+
+        return () -> this.unsubscribe(key, subscriber);
+    }
+
+    public synchronized int size() {
+        return this.count;
+    }
+
+    private synchronized void unsubscribe(String key, Consumer<T> subscriber) {
+        Set<Consumer<T>> consumers = this.subscribers.get(key);
+        if (consumers == null || !consumers.remove(subscriber)) {
+            return;
+        }
+
+        if (consumers.isEmpty()) {
+            this.subscribers.remove(key);
+        }
+
+        if (--this.count == 0 && this.cancel != null) {
+            this.cancel.run();
+            this.cancel = null;
+        }
+    }
+
+    private void dispatch(Either<T, DeserializationException> either) {
+        if (either.isRight()) {
+            log.error("Unable to deserialize the {}: {}", this.name, either.getRight().getMessage());
+            return;
+        }
+
+        T message = either.getLeft();
+        String messageKey = this.key.apply(message);
+        if (messageKey == null) {
+            return;
+        }
+
+        Set<Consumer<T>> consumers = this.subscribers.get(messageKey);
+        if (consumers == null) {
+            return;
+        }
+
+        for (Consumer<T> consumer : consumers) {
+            try {
+                consumer.accept(message);
+            } catch (Exception e) {
+                log.warn("Unable to dispatch the {} '{}' to a subscriber", this.name, messageKey, e);
+            }
+        }
+    }
+}
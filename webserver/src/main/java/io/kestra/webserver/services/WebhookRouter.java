@@ -0,0 +1,195 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.triggers.types.Webhook;
+import io.kestra.core.queues.BatchingQueueEmitter;
+import io.kestra.core.queues.QueueException;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Route the webhook calls to their flow and trigger without loading the flow nor rendering the webhook keys on each
+ * call: the flows are kept up to date from the {@link FlowListenersInterface} and the keys of their webhook triggers are
+ * rendered once for each flow revision.
+ * The executions created by webhooks are emitted in batches, so bursts of calls share their transactions. Each call
+ * still waits for the batch holding its execution to be sent, so an execution is never acknowledged before it's stored.
+ * The index is started with the first webhook call, so it's only built on the servers that receive them.
+ */
+@Singleton
+@Slf4j
+public class WebhookRouter {
+    @Inject
+    private FlowListenersInterface flowListeners;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Inject
+    private ExecutorsUtils executorsUtils;
+
+    @Value("${kestra.server.webhook.buffer-size:10000}")
+    private int bufferSize;
+
+    @Value("${kestra.server.webhook.batch-size:100}")
+    private int batchSize;
+
+    @Value("${kestra.server.webhook.flush-interval:PT0.05S}")
+    private Duration flushInterval;
+
+    private volatile Map<String, Route> routes;
+    private volatile BatchingQueueEmitter<Execution> emitter;
+    private ExecutorService emitterExecutor;
+
+    /**
+     * @return the flow, if it's known by the flow listeners
+     */
+    public Optional<Flow> flow(String tenantId, String namespace, String id) {
+        return Optional.ofNullable(this.routes().get(Flow.uidWithoutRevision(tenantId, namespace, id)))
+            .map(Route::flow);
+    }
+
+    /**
+     * @return the webhook trigger of the flow with this key
+     */
+    public Optional<Webhook> webhook(Flow flow, String key) {
+        Route route = this.routes().get(flow.uidWithoutRevision());
+
+        // the flow may be more recent than the index, ex: when loaded from the repository just after an update
+        if (route == null || !Objects.equals(route.flow().getRevision(), flow.getRevision())) {
+            route = this.route(flow);
+        }
+
+        return Optional.ofNullable(route.webhooks().get(key));
+    }
+
+    /**
+     * Emit the execution created by a webhook, in a batch with the other ones, and wait for the batch to be sent.
+     *
+     * @throws QueueException if the execution can't be sent
+     */
+    public void emit(Execution execution) throws QueueException {
+        try {
+            this.emitter().submit(execution).get();
+        } catch (ExecutionException e) {
+            throw new QueueException("Unable to emit the execution '" + execution.getId() + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueueException("Interrupted while emitting the execution '" + execution.getId() + "'", e);
+        }
+    }
+
+    private Map<String, Route> routes() {
+        if (this.routes == null) {
+            synchronized (this) {
+                if (this.routes == null) {
+                    this.routes = Collections.emptyMap();
+
+                    // called with the current flows, then on each change
+                    this.flowListeners.listen(this::index);
+                    this.flowListeners.run();
+                }
+            }
+        }
+
+        return this.routes;
+    }
+
+    private void index(List<Flow> flows) {
+        Map<String, Route> previous = this.routes;
+        Map<String, Route> routes = new HashMap<>(flows.size());
+
+        for (Flow flow : flows) {
+            if (flow.getTriggers() == null || flow.getTriggers().stream().noneMatch(trigger -> trigger instanceof Webhook)) {
+                continue;
+            }
+
+            String uid = flow.uidWithoutRevision();
+            Route route = previous == null ? null : previous.get(uid);
+
+            // only the updated flows are rendered again
+            if (route == null || !Objects.equals(route.flow().getRevision(), flow.getRevision())) {
+                route = this.route(flow);
+            }
+
+            routes.put(uid, route);
+        }
+
+        this.routes = routes;
+    }
+
+    private Route route(Flow flow) {
+        Map<String, Webhook> webhooks = new HashMap<>();
+
+        if (flow.getTriggers() != null) {
+            flow.getTriggers()
+                .stream()
+                .filter(trigger -> trigger instanceof Webhook)
+                .map(trigger -> (Webhook) trigger)
+                .forEach(webhook -> {
+                    try {
+                        String key = runContextFactory.of(flow, webhook).render(webhook.getKey()).trim();
+
+                        // the first webhook with a key wins, like when they were looked up in order
+                        webhooks.putIfAbsent(key, webhook);
+                    } catch (IllegalVariableEvaluationException e) {
+                        // be conservative, don't crash but filter the webhook
+                        log.warn("Unable to render the webhook key {}, the webhook will be ignored", webhook.getKey(), e);
+                    }
+                });
+        }
+
+        return new Route(flow, webhooks);
+    }
+
+    private BatchingQueueEmitter<Execution> emitter() {
+        if (this.emitter == null) {
+            synchronized (this) {
+                if (this.emitter == null) {
+                    this.emitterExecutor = executorsUtils.singleThreadExecutor("webhook-emitter");
+                    this.emitter = BatchingQueueEmitter.<Execution>builder()
+                        .name("webhook")
+                        .sender(executions -> this.executionQueue.emitBatch(executions))
+                        .executorService(this.emitterExecutor)
+                        .bufferSize(this.bufferSize)
+                        .batchSize(this.batchSize)
+                        .flushInterval(this.flushInterval)
+                        .overflowPolicy(BatchingQueueEmitter.OverflowPolicy.BLOCK)
+                        .build();
+                }
+            }
+        }
+
+        return this.emitter;
+    }
+
+    @PreDestroy
+    void close() {
+        if (this.emitter != null) {
+            this.emitter.close();
+            this.emitterExecutor.shutdown();
+        }
+    }
+
+    private record Route(Flow flow, Map<String, Webhook> webhooks) {
+    }
+}
@@ -1035,6 +1035,37 @@ class ExecutionControllerTest extends JdbcH2ControllerTest {
         assertThat(response.getCount(), is(3));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void bulkDeleteByQuery() throws TimeoutException {
+        Execution result1 = triggerInputsFlowExecution(true);
+        triggerInputsFlowExecution(true);
+        triggerInputsFlowExecution(true);
+
+        Map<String, Object> operation = client.toBlocking().retrieve(
+            HttpRequest.POST("/api/v1/executions/bulk/DELETE?namespace=" + result1.getNamespace(), null),
+            Map.class
+        );
+        assertThat(operation.get("type"), is("DELETE"));
+
+        Await.until(
+            () -> !client.toBlocking().retrieve(HttpRequest.GET("/api/v1/executions/bulk/" + operation.get("id")), Map.class).get("status").equals("RUNNING"),
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+
+        Map<String, Object> ended = client.toBlocking().retrieve(HttpRequest.GET("/api/v1/executions/bulk/" + operation.get("id")), Map.class);
+        assertThat(ended.get("status"), is("SUCCESS"));
+        assertThat(ended.get("count"), is(3));
+        assertThat(ended.get("errors"), is(0));
+
+        HttpClientResponseException e = assertThrows(
+            HttpClientResponseException.class,
+            () -> client.toBlocking().retrieve(HttpRequest.GET("/api/v1/executions/" + result1.getId()))
+        );
+        assertThat(e.getStatus(), is(HttpStatus.NOT_FOUND));
+    }
+
     @Test
     void setLabels() {
         // update label on a terminated execution
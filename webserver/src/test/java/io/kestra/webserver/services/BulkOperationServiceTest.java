@@ -0,0 +1,81 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.Setting;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.repositories.SettingRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.webserver.controllers.h2.JdbcH2ControllerTest;
+import io.kestra.webserver.models.BulkOperation;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class BulkOperationServiceTest extends JdbcH2ControllerTest {
+    @Inject
+    private BulkOperationService bulkOperationService;
+
+    @Inject
+    private SettingRepositoryInterface settingRepository;
+
+    @Test
+    void persisted() throws Exception {
+        BulkOperation operation = bulkOperationService.submit(
+            BulkOperation.Type.DELETE,
+            null,
+            execution -> true,
+            (afterId, size) -> List.of()
+        );
+
+        Await.until(
+            () -> persisted(operation.getId()).getStatus() == BulkOperation.Status.SUCCESS,
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+
+        // the ended operation is read from the settings, like on the other webservers
+        assertThat(bulkOperationService.get(null, operation.getId()).orElseThrow().getStatus(), is(BulkOperation.Status.SUCCESS));
+        assertThat(bulkOperationService.get("other", operation.getId()).isPresent(), is(false));
+    }
+
+    @Test
+    void cancelledByAnotherWebserver() throws Exception {
+        // an endless operation, its executions are all skipped
+        BulkOperation operation = bulkOperationService.submit(
+            BulkOperation.Type.DELETE,
+            null,
+            execution -> false,
+            (afterId, size) -> List.of(Execution.builder().id(IdUtils.create()).build())
+        );
+
+        BulkOperation cancelled = persisted(operation.getId());
+        assertThat(cancelled.end(BulkOperation.Status.CANCELLED, "Cancelled"), is(true));
+        settingRepository.save(Setting.builder()
+            .key(BulkOperationService.SETTING_KEY_PREFIX + operation.getId())
+            .value(cancelled)
+            .build()
+        );
+
+        Await.until(
+            () -> !operation.isRunning(),
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+
+        assertThat(operation.getStatus(), is(BulkOperation.Status.CANCELLED));
+        assertThat(bulkOperationService.get(null, operation.getId()).orElseThrow().getStatus(), is(BulkOperation.Status.CANCELLED));
+    }
+
+    private BulkOperation persisted(String id) {
+        return settingRepository
+            .findByKey(BulkOperationService.SETTING_KEY_PREFIX + id)
+            .map(setting -> JacksonMapper.toMap(setting.getValue(), BulkOperation.class))
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,73 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.webserver.controllers.h2.JdbcH2ControllerTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class QueueFanOutTest extends JdbcH2ControllerTest {
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    @Test
+    void dispatch() throws Exception {
+        QueueFanOut<LogEntry> fanOut = new QueueFanOut<>("log", logQueue, LogEntry::getExecutionId);
+        String first = IdUtils.create();
+        String second = IdUtils.create();
+
+        List<String> firstReceived = new CopyOnWriteArrayList<>();
+        List<String> secondReceived = new CopyOnWriteArrayList<>();
+        List<String> otherReceived = new CopyOnWriteArrayList<>();
+
+        Runnable firstCancel = fanOut.subscribe(first, logEntry -> firstReceived.add(logEntry.getMessage()));
+        Runnable otherCancel = fanOut.subscribe(first, logEntry -> otherReceived.add(logEntry.getMessage()));
+        Runnable secondCancel = fanOut.subscribe(second, logEntry -> secondReceived.add(logEntry.getMessage()));
+        assertThat(fanOut.size(), is(3));
+
+        logQueue.emit(logEntry(first, "first"));
+        logQueue.emit(logEntry(second, "second"));
+
+        Await.until(() -> firstReceived.size() == 1 && secondReceived.size() == 1 && otherReceived.size() == 1, Duration.ofMillis(50), Duration.ofSeconds(10));
+        assertThat(firstReceived.get(0), is("first"));
+        assertThat(otherReceived.get(0), is("first"));
+        assertThat(secondReceived.get(0), is("second"));
+
+        otherCancel.run();
+        otherCancel.run();
+        assertThat(fanOut.size(), is(2));
+
+        logQueue.emit(logEntry(first, "again"));
+        Await.until(() -> firstReceived.size() == 2, Duration.ofMillis(50), Duration.ofSeconds(10));
+        assertThat(otherReceived.size(), is(1));
+
+        firstCancel.run();
+        secondCancel.run();
+        assertThat(fanOut.size(), is(0));
+    }
+
+    private static LogEntry logEntry(String executionId, String message) {
+        return LogEntry.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .executionId(executionId)
+            .timestamp(Instant.now())
+            .level(Level.INFO)
+            .message(message)
+            .build();
+    }
+}
@@ -0,0 +1,39 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.triggers.types.Webhook;
+import io.kestra.core.utils.Await;
+import io.kestra.webserver.controllers.h2.JdbcH2ControllerTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class WebhookRouterTest extends JdbcH2ControllerTest {
+    @Inject
+    private WebhookRouter webhookRouter;
+
+    @Test
+    void route() throws Exception {
+        Await.until(
+            () -> webhookRouter.flow(null, "io.kestra.tests", "webhook-dynamic-key").isPresent(),
+            Duration.ofMillis(50),
+            Duration.ofSeconds(10)
+        );
+
+        Flow flow = webhookRouter.flow(null, "io.kestra.tests", "webhook-dynamic-key").orElseThrow();
+
+        Optional<Webhook> webhook = webhookRouter.webhook(flow, "webhook-dynamic-key");
+        assertThat(webhook.isPresent(), is(true));
+        assertThat(webhook.get().getId(), is("webhook"));
+
+        assertThat(webhookRouter.webhook(flow, "{{ flow.id }}").isPresent(), is(false));
+
+        // flows without webhook are not indexed
+        assertThat(webhookRouter.flow(null, "io.kestra.tests", "full").isPresent(), is(false));
+    }
+}